@@ -18,16 +18,21 @@ import seedu.tassist.logic.LogicManager;
 import seedu.tassist.model.AddressBook;
 import seedu.tassist.model.Model;
 import seedu.tassist.model.ModelManager;
+import seedu.tassist.model.Operations;
 import seedu.tassist.model.ReadOnlyAddressBook;
 import seedu.tassist.model.ReadOnlyUserPrefs;
 import seedu.tassist.model.UserPrefs;
 import seedu.tassist.model.util.SampleDataUtil;
 import seedu.tassist.storage.AddressBookStorage;
 import seedu.tassist.storage.JsonAddressBookStorage;
+import seedu.tassist.storage.JsonUndoHistorySpill;
+import seedu.tassist.storage.JsonUndoJournal;
 import seedu.tassist.storage.JsonUserPrefsStorage;
+import seedu.tassist.storage.KeyValueAddressBookStorage;
 import seedu.tassist.storage.Storage;
 import seedu.tassist.storage.StorageManager;
 import seedu.tassist.storage.UserPrefsStorage;
+import seedu.tassist.storage.WriteBehindStorage;
 import seedu.tassist.ui.Ui;
 import seedu.tassist.ui.UiManager;
 
@@ -37,6 +42,8 @@ import seedu.tassist.ui.UiManager;
 public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 6, 0, true);
+    public static final String UNDO_HISTORY_SPILL_FILE_NAME = "undohistory.json";
+    public static final String UNDO_JOURNAL_FILE_NAME = "undojournal.dat";
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
@@ -46,6 +53,8 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private boolean isDataFileLoaded = false;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing "
@@ -58,17 +67,47 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(
-                userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        // The address book is kept in a key-value store, one record per student, so that a save only writes
+        // the students changed. An existing json data file is read until the store is created.
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage addressBookStorage = new KeyValueAddressBookStorage(
+                KeyValueAddressBookStorage.getKeyValueFilePath(jsonFilePath),
+                new JsonAddressBookStorage(jsonFilePath));
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage),
+                userPrefs.getSaveDurability(), userPrefs.getGroupCommitInterval());
 
         model = initModelManager(storage, userPrefs);
+        initUndoHistory(userPrefs);
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Bounds the undo history kept in memory by the budget in {@code userPrefs}, and restores the undo history
+     * of the last session from the undo journal beside the address book file.
+     * The journal is only restored from if it belongs to the address book that was loaded. If the journal cannot
+     * be used, older history is spilled to a file that only lasts for this session instead.
+     */
+    private void initUndoHistory(ReadOnlyUserPrefs userPrefs) {
+        Path dataFilePath = userPrefs.getAddressBookFilePath();
+        JsonUndoJournal journal = new JsonUndoJournal(dataFilePath.resolveSibling(UNDO_JOURNAL_FILE_NAME));
+        try {
+            if (isDataFileLoaded) {
+                journal.recover();
+            } else {
+                journal.clear();
+            }
+            Operations.restoreHistory(userPrefs.getUndoHistoryBudget(), journal);
+        } catch (IOException e) {
+            logger.warning("Undo journal at " + journal.getFilePath() + " could not be used."
+                    + " Undo history will only be kept for this session.");
+            Path spillFilePath = dataFilePath.resolveSibling(UNDO_HISTORY_SPILL_FILE_NAME);
+            Operations.configureHistory(userPrefs.getUndoHistoryBudget(), new JsonUndoHistorySpill(spillFilePath));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book
      * and {@code userPrefs}. <br>
@@ -88,6 +127,7 @@ public class MainApp extends Application {
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            isDataFileLoaded = addressBookOptional.isPresent();
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath()
                     + " could not be loaded."
@@ -183,6 +223,11 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping "
                 + "AddressBook ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
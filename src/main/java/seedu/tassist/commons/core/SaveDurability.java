@@ -0,0 +1,13 @@
+package seedu.tassist.commons.core;
+
+/**
+ * How soon the changes to the address book are written to the data file.
+ */
+public enum SaveDurability {
+    /** Every change is written, and forced to the disk, before the command that made it completes. */
+    EVERY_COMMAND,
+    /** Changes are written together, at most once every group commit interval. */
+    GROUP_COMMIT,
+    /** Changes are only written when the app exits. */
+    ON_EXIT
+}
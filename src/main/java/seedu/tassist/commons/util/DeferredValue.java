@@ -0,0 +1,54 @@
+package seedu.tassist.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Supplier;
+
+/**
+ * A value that is computed when it is first read, at most once, and kept for later reads.
+ * It may be read from several threads.
+ */
+public final class DeferredValue<T> {
+
+    private Supplier<? extends T> supplier;
+    private volatile T value;
+
+    private DeferredValue(T value, Supplier<? extends T> supplier) {
+        this.value = value;
+        this.supplier = supplier;
+    }
+
+    /**
+     * Returns a deferred value that is already computed as {@code value}.
+     */
+    public static <T> DeferredValue<T> of(T value) {
+        requireNonNull(value);
+        return new DeferredValue<>(value, null);
+    }
+
+    /**
+     * Returns a deferred value computed by {@code supplier} when it is first read.
+     * {@code supplier} must not return null.
+     */
+    public static <T> DeferredValue<T> defer(Supplier<? extends T> supplier) {
+        requireNonNull(supplier);
+        return new DeferredValue<>(null, supplier);
+    }
+
+    /**
+     * Returns the value, computing it if this is its first read.
+     */
+    public T get() {
+        T result = value;
+        if (result != null) {
+            return result;
+        }
+        synchronized (this) {
+            if (value == null) {
+                value = requireNonNull(supplier.get());
+                supplier = null;
+            }
+            return value;
+        }
+    }
+}
@@ -1,17 +1,31 @@
 package seedu.tassist.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files.
  */
 public class FileUtil {
 
+    public static final String GZIP_EXTENSION = ".gz";
+
     private static final String CHARSET = "UTF-8";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
 
     /** File validation.*/
     public static boolean isFileExists(Path file) {
@@ -74,12 +88,77 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns true if {@code file} has the {@value #GZIP_EXTENSION} extension, so that it is written compressed.
+     */
+    public static boolean isGzipFile(Path file) {
+        return file.getFileName().toString().toLowerCase().endsWith(GZIP_EXTENSION);
+    }
+
+    /**
+     * Opens a buffered stream of the content of {@code file}.
+     * If the file starts with the gzip magic bytes, whatever its name, it is decompressed as it is read.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), GZIP_BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int magic = in.read() | (in.read() << 8);
+            in.reset();
+            if (magic == GZIPInputStream.GZIP_MAGIC) {
+                return new BufferedInputStream(new GZIPInputStream(in, GZIP_BUFFER_SIZE));
+            }
+            return in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The string is first written to a temporary file beside {@code file} and forced to the disk,
+     * which then replaces {@code file}, so that a crash while writing never leaves {@code file} half written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)));
     }
 
+    /**
+     * Writes to a file whatever {@code contentWriter} writes to the buffered stream it is given.
+     * Will create the file if it does not exist yet.
+     * As with {@link #writeToFile(Path, String)}, {@code file} is only replaced once all of it has been written.
+     * If {@code file} has the {@value #GZIP_EXTENSION} extension, the content is compressed as it is written.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            if (isGzipFile(file)) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                contentWriter.write(gzipOut);
+                gzipOut.finish();
+            } else {
+                contentWriter.write(out);
+            }
+            out.flush();
+            channel.force(true);
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
 }
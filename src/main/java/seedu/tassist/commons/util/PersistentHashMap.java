@@ -0,0 +1,315 @@
+package seedu.tassist.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tassist.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+
+/**
+ * An immutable map whose updates return a new map that shares all unchanged structure with the old one.
+ * Entries are kept in a hash array mapped trie: each level of the trie consumes five bits of the key's hash,
+ * and only the child slots that are in use are allocated. Looking up, adding and removing a key each take
+ * O(log32 n) time and allocate one node per level.
+ * Null keys and values are not allowed.
+ *
+ * @param <K> Type of the keys.
+ * @param <V> Type of the values.
+ */
+public final class PersistentHashMap<K, V> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        requireNonNull(key);
+        Entry entry = root.find(0, hash(key), key);
+        return entry == null ? null : (V) entry.value;
+    }
+
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}.
+     * Returns this map if {@code key} is already mapped to {@code value}.
+     */
+    public PersistentHashMap<K, V> put(K key, V value) {
+        requireAllNonNull(key, value);
+        Entry entry = new Entry(hash(key), key, value);
+        Node newRoot = root.put(0, entry);
+        if (newRoot == root) {
+            return this;
+        }
+        boolean isNewKey = root.find(0, entry.hash, key) == null;
+        return new PersistentHashMap<>(newRoot, isNewKey ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without {@code key}.
+     * Returns this map if {@code key} is not mapped.
+     */
+    public PersistentHashMap<K, V> remove(K key) {
+        requireNonNull(key);
+        Node newRoot = root.remove(0, hash(key), key);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot == null ? BitmapNode.EMPTY : newRoot, size - 1);
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * An immutable key-value pair, stored with the hash of its key.
+     */
+    private static final class Entry {
+        private final int hash;
+        private final Object key;
+        private final Object value;
+
+        private Entry(int hash, Object key, Object value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * An immutable node of the trie, which may be shared by many maps.
+     */
+    private interface Node {
+        /** Returns the entry with {@code key}, or null if there is none. */
+        Entry find(int shift, int hash, Object key);
+
+        /** Returns a node with {@code entry} added, or this node if it already holds an identical entry. */
+        Node put(int shift, Entry entry);
+
+        /** Returns a node without {@code key}, this node if it has no such key, or null if it would be empty. */
+        Node remove(int shift, int hash, Object key);
+
+        /** Returns the only entry of this node, or null if it holds a child node or more than one entry. */
+        Entry getSingleEntry();
+    }
+
+    /**
+     * A node whose bitmap marks which of its 32 slots are in use.
+     * Each slot in use holds either an {@code Entry} or a child {@code Node}.
+     */
+    private static final class BitmapNode implements Node {
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        private BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        private static int bit(int shift, int hash) {
+            return 1 << ((hash >>> shift) & LEVEL_MASK);
+        }
+
+        private int slotIndex(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        public Entry find(int shift, int hash, Object key) {
+            int bit = bit(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = slots[slotIndex(bit)];
+            if (slot instanceof Node) {
+                return ((Node) slot).find(shift + BITS_PER_LEVEL, hash, key);
+            }
+            Entry entry = (Entry) slot;
+            return entry.key.equals(key) ? entry : null;
+        }
+
+        @Override
+        public Node put(int shift, Entry entry) {
+            int bit = bit(shift, entry.hash);
+            int index = slotIndex(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                newSlots[index] = entry;
+                System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+                return new BitmapNode(bitmap | bit, newSlots);
+            }
+
+            Object slot = slots[index];
+            Object newSlot;
+            if (slot instanceof Node) {
+                Node child = (Node) slot;
+                newSlot = child.put(shift + BITS_PER_LEVEL, entry);
+                if (newSlot == child) {
+                    return this;
+                }
+            } else {
+                Entry existingEntry = (Entry) slot;
+                if (existingEntry.key.equals(entry.key)) {
+                    if (existingEntry.value == entry.value) {
+                        return this;
+                    }
+                    newSlot = entry;
+                } else {
+                    newSlot = createNode(shift + BITS_PER_LEVEL, existingEntry, entry);
+                }
+            }
+            Object[] newSlots = slots.clone();
+            newSlots[index] = newSlot;
+            return new BitmapNode(bitmap, newSlots);
+        }
+
+        private static Node createNode(int shift, Entry first, Entry second) {
+            if (first.hash == second.hash) {
+                return new CollisionNode(first.hash, new Entry[] {first, second});
+            }
+            return EMPTY.put(shift, first).put(shift, second);
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key) {
+            int bit = bit(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = slotIndex(bit);
+            Object slot = slots[index];
+            if (slot instanceof Node) {
+                Node child = (Node) slot;
+                Node newChild = child.remove(shift + BITS_PER_LEVEL, hash, key);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild != null) {
+                    Entry singleEntry = newChild.getSingleEntry();
+                    Object[] newSlots = slots.clone();
+                    newSlots[index] = singleEntry == null ? newChild : singleEntry;
+                    return new BitmapNode(bitmap, newSlots);
+                }
+            } else if (!((Entry) slot).key.equals(key)) {
+                return this;
+            }
+
+            if (slots.length == 1) {
+                return null;
+            }
+            Object[] newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+            return new BitmapNode(bitmap & ~bit, newSlots);
+        }
+
+        @Override
+        public Entry getSingleEntry() {
+            return slots.length == 1 && slots[0] instanceof Entry ? (Entry) slots[0] : null;
+        }
+    }
+
+    /**
+     * A node holding the entries of distinct keys that share the same full hash.
+     */
+    private static final class CollisionNode implements Node {
+        private final int hash;
+        private final Entry[] entries;
+
+        private CollisionNode(int hash, Entry[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Entry find(int shift, int hash, Object key) {
+            int index = this.hash == hash ? indexOf(key) : -1;
+            return index == -1 ? null : entries[index];
+        }
+
+        @Override
+        public Node put(int shift, Entry entry) {
+            if (entry.hash != hash) {
+                // Push this node one level down, beside the new entry.
+                int bit = BitmapNode.bit(shift, hash);
+                return new BitmapNode(bit, new Object[] {this}).put(shift, entry);
+            }
+
+            int index = indexOf(entry.key);
+            if (index == -1) {
+                Entry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+                newEntries[entries.length] = entry;
+                return new CollisionNode(hash, newEntries);
+            }
+            if (entries[index].value == entry.value) {
+                return this;
+            }
+            Entry[] newEntries = entries.clone();
+            newEntries[index] = entry;
+            return new CollisionNode(hash, newEntries);
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key) {
+            int index = this.hash == hash ? indexOf(key) : -1;
+            if (index == -1) {
+                return this;
+            }
+            if (entries.length == 1) {
+                return null;
+            }
+            Entry[] newEntries = new Entry[entries.length - 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(entries, index + 1, newEntries, index, entries.length - index - 1);
+            return new CollisionNode(hash, newEntries);
+        }
+
+        @Override
+        public Entry getSingleEntry() {
+            return entries.length == 1 ? entries[0] : null;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import seedu.tassist.commons.core.GuiSettings;
 import seedu.tassist.logic.commands.CommandResult;
 import seedu.tassist.logic.commands.exceptions.CommandException;
 import seedu.tassist.logic.parser.exceptions.ParseException;
+import seedu.tassist.model.MergeSummary;
 import seedu.tassist.model.ReadOnlyAddressBook;
 import seedu.tassist.model.person.Person;
 
@@ -57,6 +58,17 @@ public interface Logic {
      */
     void loadCsv(Path filePath) throws IOException;
 
+    /**
+     * Merges AddressBook data from a CSV file located at {@code filePath} into the current data,
+     * by matriculation number.
+     *
+     * @param filePath The path to the CSV file to be merged.
+     * @param isPruning Whether students missing from the file are deleted.
+     * @return How many students were added, updated, left unchanged and deleted.
+     * @throws IOException If an I/O error occurs, such as when the file does not exist.
+     */
+    MergeSummary mergeCsv(Path filePath, boolean isPruning) throws IOException;
+
     /**
      * Saves current AddressBook data to a CSV file at {@code filePath}.
      *
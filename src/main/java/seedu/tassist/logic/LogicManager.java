@@ -16,10 +16,12 @@ import seedu.tassist.logic.commands.exceptions.CommandException;
 import seedu.tassist.logic.parser.AddressBookParser;
 import seedu.tassist.logic.parser.exceptions.ParseException;
 import seedu.tassist.model.AddressBook;
+import seedu.tassist.model.MergeSummary;
 import seedu.tassist.model.Model;
 import seedu.tassist.model.Operations;
 import seedu.tassist.model.ReadOnlyAddressBook;
 import seedu.tassist.model.person.Person;
+import seedu.tassist.storage.JsonAddressBookStorage;
 import seedu.tassist.storage.Storage;
 
 /**
@@ -38,6 +40,8 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    // The version of the address book last saved, or -1 so that the first command always saves.
+    private long savedAddressBookVersion = -1;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -58,18 +62,35 @@ public class LogicManager implements Logic {
         commandResult = command.execute(model);
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            saveAddressBookIfChanged();
         } catch (AccessDeniedException e) {
+            // The changes of the command stay in the model and are saved later, so it is kept in the undo history.
+            Operations.commitCurrentCommand();
             throw new CommandException(String.format(
                     FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
+            Operations.commitCurrentCommand();
             throw new CommandException(String.format(
                     FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        Operations.commitCurrentCommand();
 
         return commandResult;
     }
 
+    /**
+     * Saves the address book, unless it has not changed since it was last saved.
+     * Commands that only read the address book, which are the most frequent, then skip the write.
+     */
+    private void saveAddressBookIfChanged() throws IOException {
+        long version = model.getAddressBookVersion();
+        if (version == savedAddressBookVersion) {
+            return;
+        }
+        storage.saveAddressBook(model.getAddressBook());
+        savedAddressBookVersion = version;
+    }
+
     /**
      * Loads an AddressBook from a CSV file and updates the model.
      *
@@ -91,6 +112,23 @@ public class LogicManager implements Logic {
         }
     }
 
+    /**
+     * Merges an AddressBook from a CSV file into the model, as a single change to it.
+     *
+     * @param filePath The path to the CSV file to be merged.
+     * @param isPruning Whether persons missing from the file are deleted.
+     * @throws IOException If an error occurs while reading the CSV file.
+     */
+    @Override
+    public MergeSummary mergeCsv(Path filePath, boolean isPruning) throws IOException {
+        try {
+            ReadOnlyAddressBook incoming = storage.readAddressBookFromCsv(filePath).orElseGet(AddressBook::new);
+            return model.mergeAddressBook(incoming, isPruning);
+        } catch (DataLoadingException e) {
+            throw new IOException("Failed to load CSV data from: " + filePath, e);
+        }
+    }
+
     @Override
     public void saveCsv(Path filePath) throws IOException {
         storage.saveAddressBookToCsv(model.getAddressBook(), filePath);
@@ -119,7 +157,7 @@ public class LogicManager implements Logic {
 
     @Override
     public void saveJson(Path filePath) throws IOException {
-        storage.saveAddressBook(model.getAddressBook(), filePath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(model.getAddressBook());
     }
 
 
@@ -71,8 +71,9 @@ public class DeleteCommand extends Command {
             toDelete.add(lastShownList.get(zeroBased));
         }
 
-        for (Person person : toDelete) {
-            model.deletePerson(person);
+        // Deleting from the last displayed person keeps the positions of the earlier ones valid.
+        for (int i = toDelete.size() - 1; i >= 0; i--) {
+            model.deletePerson(toDelete.get(i));
         }
 
         String deletedStudentsSummary = getDeletedStudentsSummary(toDelete);
@@ -6,6 +6,7 @@ import static seedu.tassist.logic.parser.CliSyntax.PREFIX_FILE_PATH;
 import java.io.IOException;
 import java.nio.file.Path;
 
+import seedu.tassist.commons.util.FileUtil;
 import seedu.tassist.logic.commands.exceptions.CommandException;
 import seedu.tassist.model.Model;
 import seedu.tassist.model.ReadOnlyAddressBook;
@@ -23,9 +24,11 @@ public class ExportDataCommand extends Command {
             + "  " + PREFIX_FILE_PATH + " FILE_PATH   Specify the output file path.\n"
             + "                 Can be either a full file path or a path relative\n"
             + "                 to the current directory.\n"
-            + "                 The file must have a .csv or .json extension.\n"
+            + "                 The file must have a .csv or .json extension,\n"
+            + "                 followed by .gz to compress it.\n"
             + "Examples:\n"
-            + "  export " + PREFIX_FILE_PATH + " ./data/userdata.csv";
+            + "  export " + PREFIX_FILE_PATH + " ./data/userdata.csv\n"
+            + "  export " + PREFIX_FILE_PATH + " ./data/userdata.json.gz";
 
     public static final String MESSAGE_SUCCESS = "Exported data to file: %1$s";
     public static final String INVALID_ARGUMENT_EXTENSION = "Invalid extension: %1$s";
@@ -47,7 +50,11 @@ public class ExportDataCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         String fileName = filePath.getFileName().toString();
-        String extension = fileName.substring(fileName.lastIndexOf(".")).trim();
+        // A compressed file is saved in the format named before its .gz extension.
+        if (FileUtil.isGzipFile(filePath)) {
+            fileName = fileName.substring(0, fileName.length() - FileUtil.GZIP_EXTENSION.length());
+        }
+        String extension = fileName.substring(Math.max(fileName.lastIndexOf("."), 0)).trim();
 
         try {
             saveAddressBook(model.getAddressBook(), filePath, extension);
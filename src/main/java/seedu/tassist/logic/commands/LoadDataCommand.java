@@ -3,21 +3,26 @@ package seedu.tassist.logic.commands;
 import static seedu.tassist.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.tassist.logic.parser.CliSyntax.PREFIX_EXTENSION;
 import static seedu.tassist.logic.parser.CliSyntax.PREFIX_FILE_PATH;
+import static seedu.tassist.logic.parser.CliSyntax.PREFIX_MERGE;
+import static seedu.tassist.logic.parser.CliSyntax.PREFIX_PRUNE;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Set;
 
-import seedu.tassist.commons.util.JsonUtil;
+import seedu.tassist.commons.util.FileUtil;
 import seedu.tassist.logic.commands.exceptions.CommandException;
+import seedu.tassist.model.MergeSummary;
 import seedu.tassist.model.Model;
 import seedu.tassist.model.ReadOnlyAddressBook;
+import seedu.tassist.model.person.exceptions.DuplicatePersonException;
 import seedu.tassist.storage.CsvAddressBookStorage;
-import seedu.tassist.storage.JsonSerializableAddressBook;
+import seedu.tassist.storage.JsonAddressBookStorage;
 
 /**
  * Allows a user to load data from a CSV or JSON file into the address book.
+ * The file replaces the address book, or is merged into it by matriculation number in merge mode.
  */
 public class LoadDataCommand extends Command {
     public static final String COMMAND_WORD = "load";
@@ -27,31 +32,52 @@ public class LoadDataCommand extends Command {
                     + "Loads the data from a JSON or CSV file into TAssist.\n"
                     + "Mandatory arguments:\n"
                     + "  %-7s       File name (without extension)\n"
-                    + "  %-7s       File extension (csv or json)\n\n"
-                    + "Example: %s %s userdata %s csv",
-            COMMAND_WORD, PREFIX_FILE_PATH, PREFIX_EXTENSION,
-            COMMAND_WORD, PREFIX_FILE_PATH, PREFIX_EXTENSION);
+                    + "  %-7s       File extension (csv or json, or csv.gz or json.gz if compressed)\n"
+                    + "Optional arguments:\n"
+                    + "  %-7s       Merge into the current data: add new students and update changed ones\n"
+                    + "  %-7s       With %s, also delete students missing from the file\n\n"
+                    + "Example: %s %s userdata %s csv %s",
+            COMMAND_WORD, PREFIX_FILE_PATH, PREFIX_EXTENSION, PREFIX_MERGE, PREFIX_PRUNE, PREFIX_MERGE,
+            COMMAND_WORD, PREFIX_FILE_PATH, PREFIX_EXTENSION, PREFIX_MERGE);
 
     public static final String MESSAGE_SUCCESS = "Loaded data from file: %1$s";
+    public static final String MESSAGE_MERGE_SUCCESS =
+            "Merged data from file: %1$s\n%2$d added, %3$d updated, %4$d unchanged, %5$d deleted";
     public static final String INVALID_ARGUMENT_EXTENSION = "Invalid extension: %1$s";
     public static final String INVALID_FILENAME_ERROR = "Invalid filename: %s\n"
             + "File name should only contain alphanumeric characters, dashes, or underscores.";
-    private static final Set<String> VALID_EXTENSIONS = Set.of("csv", "json");
+    private static final Set<String> VALID_EXTENSIONS = Set.of("csv", "json", "csv.gz", "json.gz");
 
     private final String fileName;
     private final String extension;
+    private final LoadMode loadMode;
 
     /**
-     * Constructs a {@code LoadDataCommand} with the specified file name and extension.
+     * Constructs a {@code LoadDataCommand} with the specified file name and extension,
+     * that replaces the address book with the data in the file.
      *
      * @param fileName The name of the file (without extension) to load data from.
      * @param extension The extension of the file (e.g., "csv" or "json").
      * @throws NullPointerException if either {@code fileName} or {@code extension} is null.
      */
     public LoadDataCommand(String fileName, String extension) {
-        requireAllNonNull(fileName, extension);
+        this(fileName, extension, LoadMode.REPLACE);
+    }
+
+    /**
+     * Constructs a {@code LoadDataCommand} with the specified file name and extension,
+     * that loads the data in the file into the address book as {@code loadMode} says.
+     *
+     * @param fileName The name of the file (without extension) to load data from.
+     * @param extension The extension of the file (e.g., "csv" or "json").
+     * @param loadMode How the data in the file is loaded into the address book.
+     * @throws NullPointerException if any of the arguments is null.
+     */
+    public LoadDataCommand(String fileName, String extension, LoadMode loadMode) {
+        requireAllNonNull(fileName, extension, loadMode);
         this.fileName = fileName;
         this.extension = extension;
+        this.loadMode = loadMode;
     }
 
     @Override
@@ -63,10 +89,21 @@ public class LoadDataCommand extends Command {
 
         try {
             ReadOnlyAddressBook loadedData = loadAddressBook(filePath, extension);
-            model.setAddressBook(loadedData);
-            return new CommandResult(String.format(MESSAGE_SUCCESS, fileName + "." + extension));
+            if (loadMode == LoadMode.REPLACE) {
+                model.setAddressBook(loadedData);
+                return new CommandResult(String.format(MESSAGE_SUCCESS, fileName + "." + extension));
+            }
+
+            // Every change of the merge is made at once, so that a single undo reverts all of it.
+            MergeSummary summary = model.mergeAddressBook(loadedData, loadMode == LoadMode.MERGE_AND_PRUNE);
+            return new CommandResult(String.format(MESSAGE_MERGE_SUCCESS, fileName + "." + extension,
+                    summary.getAddedCount(), summary.getUpdatedCount(), summary.getUnchangedCount(),
+                    summary.getDeletedCount()));
         } catch (IOException e) {
             throw new CommandException("Failed to load file: " + e.getMessage(), e);
+        } catch (DuplicatePersonException e) {
+            throw new CommandException("File has students with the same matriculation number: "
+                    + e.getMessage(), e);
         } catch (IllegalArgumentException e) {
             throw new CommandException("Corrupted or invalid file format: " + e.getMessage(), e);
         }
@@ -84,7 +121,20 @@ public class LoadDataCommand extends Command {
 
         LoadDataCommand e = (LoadDataCommand) other;
         return fileName.equals(e.fileName)
-                && extension.equals(e.extension);
+                && extension.equals(e.extension)
+                && loadMode == e.loadMode;
+    }
+
+    /**
+     * How the data in a file is loaded into the address book.
+     */
+    public enum LoadMode {
+        /** The data replaces the address book. */
+        REPLACE,
+        /** New students are added and changed ones updated, by matriculation number. */
+        MERGE,
+        /** As {@link #MERGE}, and students missing from the data are deleted. */
+        MERGE_AND_PRUNE
     }
 
     private void validateExtension(String extension) throws CommandException {
@@ -100,13 +150,16 @@ public class LoadDataCommand extends Command {
     }
 
     private ReadOnlyAddressBook loadAddressBook(Path filePath, String extension) throws IOException {
+        // Compressed files are detected by the storages as they are read.
+        String format = extension.endsWith(FileUtil.GZIP_EXTENSION)
+                ? extension.substring(0, extension.length() - FileUtil.GZIP_EXTENSION.length())
+                : extension;
         try {
-            switch (extension) {
+            switch (format) {
             case "json":
-                JsonSerializableAddressBook jsonData =
-                        JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class)
-                                .orElseThrow(() -> new IOException("File not found or unreadable."));
-                return jsonData.toModelType();
+                return new JsonAddressBookStorage(filePath)
+                        .readAddressBook()
+                        .orElseThrow(() -> new IOException("File not found or unreadable."));
 
             case "csv":
                 return new CsvAddressBookStorage(filePath)
@@ -11,18 +11,22 @@ import static seedu.tassist.logic.parser.CliSyntax.PREFIX_WEEK;
 import static seedu.tassist.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.tassist.commons.core.LogsCenter;
 import seedu.tassist.commons.core.index.Index;
 import seedu.tassist.logic.Messages;
 import seedu.tassist.logic.commands.exceptions.CommandException;
-import seedu.tassist.logic.parser.ParserUtil;
 import seedu.tassist.model.Model;
 import seedu.tassist.model.ModelManager;
 import seedu.tassist.model.person.Attendance;
 import seedu.tassist.model.person.AttendanceList;
+import seedu.tassist.model.person.MatNum;
 import seedu.tassist.model.person.Person;
 import seedu.tassist.model.person.TutGroup;
 
@@ -199,11 +203,25 @@ public class MarkAttendanceCommand extends Command {
         StringBuilder successMessage = new StringBuilder();
 
         if (tutGroupList != null) {
-            String invalidTutGroupsString = ParserUtil.getInvalidTutGroupsAsString(lastShownList, tutGroupList);
-            if (!invalidTutGroupsString.isEmpty()) {
+            Set<MatNum> matNumsToEdit = new HashSet<>();
+            List<TutGroup> invalidTutGroups = new ArrayList<>();
+            for (TutGroup tutGroup : new LinkedHashSet<>(tutGroupList)) {
+                List<Person> shownMembers = model.getFilteredPersonsInTutGroup(tutGroup);
+                if (shownMembers.isEmpty()) {
+                    invalidTutGroups.add(tutGroup);
+                }
+                shownMembers.forEach(person -> matNumsToEdit.add(person.getMatNum()));
+            }
+            if (!invalidTutGroups.isEmpty()) {
+                String invalidTutGroupsString = invalidTutGroups.stream()
+                        .map(TutGroup::toString)
+                        .collect(Collectors.joining(", "));
                 throw new CommandException(String.format(MESSAGE_INVALID_TUT_GROUPS_FAILURE, invalidTutGroupsString));
             }
-            personsToEdit = ParserUtil.getPersonsInTutorialGroups(lastShownList, tutGroupList);
+            // Persons are marked in the order they are displayed, whatever the order of their groups.
+            personsToEdit = lastShownList.stream()
+                    .filter(person -> matNumsToEdit.contains(person.getMatNum()))
+                    .toList();
             successMessage.append(generateSuccessMessage(tutGroupList)).append("\n-------------\n");
         } else {
             boolean allIndexesValid = indexList.stream()
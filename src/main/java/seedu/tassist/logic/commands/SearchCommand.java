@@ -12,9 +12,21 @@ import static seedu.tassist.logic.parser.CliSyntax.PREFIX_TELE_HANDLE;
 import static seedu.tassist.logic.parser.CliSyntax.PREFIX_TUT_GROUP;
 import static seedu.tassist.logic.parser.CliSyntax.PREFIX_YEAR;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
 import seedu.tassist.logic.Messages;
 import seedu.tassist.logic.commands.exceptions.CommandException;
 import seedu.tassist.model.Model;
+import seedu.tassist.model.PersonTextIndex.Field;
+import seedu.tassist.model.person.MatNum;
+import seedu.tassist.model.person.Person;
 import seedu.tassist.model.person.PersonMatchesPredicate;
 
 /**
@@ -62,11 +74,106 @@ public class SearchCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Optional<Set<MatNum>> candidates = findCandidates(model);
+        if (candidates.isPresent()) {
+            // Indexes only narrow down the first evaluation of the filter. Persons that change later are
+            // tested against the predicate alone, as the candidates are only correct for the persons of now.
+            NarrowedPredicate filter = new NarrowedPredicate(candidates.get(), predicate);
+            model.updateFilteredPersonList(filter);
+            filter.stopNarrowing();
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns the matriculation numbers of the persons that may match the predicate, found by intersecting
+     * the results of the model's group and text indexes for every criterion they can answer.
+     * Returns an empty {@code Optional} if no criterion can be answered by an index.
+     */
+    private Optional<Set<MatNum>> findCandidates(Model model) {
+        List<Set<MatNum>> candidateSets = new ArrayList<>();
+        predicate.getTutGroupCriterion().ifPresent(criterion ->
+                candidateSets.add(toMatNums(model.getPersonsByTutGroup(criterion))));
+        predicate.getLabGroupCriterion().ifPresent(criterion ->
+                candidateSets.add(toMatNums(model.getPersonsByLabGroup(criterion))));
+        predicate.getFacultyCriterion().ifPresent(criterion ->
+                candidateSets.add(toMatNums(model.getPersonsByFaculty(criterion))));
+        predicate.getYearCriterion().ifPresent(criterion ->
+                candidateSets.add(toMatNums(model.getPersonsByYear(criterion))));
+
+        predicate.getMatNumCriterion().flatMap(criterion ->
+                model.findCandidatesContaining(Field.MAT_NUM, criterion)).ifPresent(candidateSets::add);
+        predicate.getPhoneCriterion().flatMap(criterion ->
+                model.findCandidatesContaining(Field.PHONE, criterion)).ifPresent(candidateSets::add);
+        predicate.getTeleHandleCriterion().flatMap(criterion ->
+                model.findCandidatesContaining(Field.TELE_HANDLE, criterion)).ifPresent(candidateSets::add);
+        predicate.getEmailCriterion().flatMap(criterion ->
+                model.findCandidatesContaining(Field.EMAIL, criterion)).ifPresent(candidateSets::add);
+        predicate.getTagCriterion().flatMap(criterion ->
+                model.findCandidatesContaining(Field.TAG, criterion)).ifPresent(candidateSets::add);
+        predicate.getNameKeywords().flatMap(keywords ->
+                findNameCandidates(model, keywords)).ifPresent(candidateSets::add);
+
+        if (candidateSets.isEmpty()) {
+            return Optional.empty();
+        }
+        candidateSets.sort(Comparator.comparingInt(Set::size));
+        Set<MatNum> candidates = new HashSet<>(candidateSets.get(0));
+        for (int i = 1; i < candidateSets.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(candidateSets.get(i));
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns the union of the candidates for each of the name {@code keywords},
+     * or an empty {@code Optional} if any keyword cannot be looked up.
+     */
+    private static Optional<Set<MatNum>> findNameCandidates(Model model, List<String> keywords) {
+        if (keywords.isEmpty()) {
+            return Optional.empty();
+        }
+        Set<MatNum> candidates = new HashSet<>();
+        for (String keyword : keywords) {
+            Optional<Set<MatNum>> keywordCandidates = model.findCandidatesContaining(Field.NAME, keyword);
+            if (keywordCandidates.isEmpty()) {
+                return Optional.empty();
+            }
+            candidates.addAll(keywordCandidates.get());
+        }
+        return Optional.of(candidates);
+    }
+
+    private static Set<MatNum> toMatNums(List<Person> persons) {
+        return persons.stream().map(Person::getMatNum).collect(Collectors.toSet());
+    }
+
+    /**
+     * A predicate that rejects persons outside a set of candidates without testing them, until it is told to
+     * stop narrowing, after which it drops the candidates and tests every person against the predicate alone.
+     */
+    private static class NarrowedPredicate implements Predicate<Person> {
+        private final PersonMatchesPredicate predicate;
+        private Set<MatNum> candidates;
+
+        NarrowedPredicate(Set<MatNum> candidates, PersonMatchesPredicate predicate) {
+            this.candidates = candidates;
+            this.predicate = predicate;
+        }
+
+        void stopNarrowing() {
+            candidates = null;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return (candidates == null || candidates.contains(person.getMatNum())) && predicate.test(person);
+        }
+    }
+
     /**
      * Checks whether two SearchCommands are equal.
      *
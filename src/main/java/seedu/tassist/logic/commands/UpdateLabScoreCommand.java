@@ -8,6 +8,7 @@ import java.util.List;
 import seedu.tassist.commons.core.index.Index;
 import seedu.tassist.logic.commands.exceptions.CommandException;
 import seedu.tassist.model.Model;
+import seedu.tassist.model.person.LabSchema;
 import seedu.tassist.model.person.LabScoreList;
 import seedu.tassist.model.person.Person;
 
@@ -54,6 +55,9 @@ public class UpdateLabScoreCommand extends Command {
     public static final String MESSAGE_INVALID_NEGATIVE_SCORE =
             "The score cannot be a negative number";
 
+    public static final String MESSAGE_HIDDEN_INVALID_LAB_MAX_SCORE =
+            "Student %1$s has score higher than the max lab score (%2$d) that you wish to set.";
+
     public static final String MESSAGE_INVALID_INDEX =
             "This index does not exist. It exceeds the maximum number of contacts";
 
@@ -114,6 +118,10 @@ public class UpdateLabScoreCommand extends Command {
         }
 
         Person personToUpdate = lastShownList.get(index.getZeroBased());
+        if (!model.getLabSchema().isValidLabNumber(labNumber)) {
+            throw new CommandException(String.format(MESSAGE_INVALID_LAB_NUMBER, model.getLabSchema().getLabCount()));
+        }
+
         LabScoreList newLabScoreList;
         String successMessage;
 
@@ -125,16 +133,16 @@ public class UpdateLabScoreCommand extends Command {
                     newLabScoreList.getLabScores().get(labNumber - 1).toString());
             break;
         case MAXLABSCORE:
-            newLabScoreList = personToUpdate.getLabScoreList().updateMaxLabScore(labNumber, maxLabScore, lastShownList);
-            updatePerson(model, personToUpdate, newLabScoreList);
-            refresh(model);
+            checkMaxLabScore(model, null);
+            model.setLabMaxScore(labNumber, maxLabScore);
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
             successMessage = String.format(MESSAGE_UPDATE_LAB_MAX_SCORE_SUCCESS, labNumber, maxLabScore);
             break;
         case BOTH:
-            newLabScoreList = personToUpdate.getLabScoreList()
-                    .updateBothLabScore(labNumber, labScore, maxLabScore, lastShownList);
+            checkMaxLabScore(model, personToUpdate);
+            newLabScoreList = personToUpdate.getLabScoreList().updateBothLabScore(labNumber, labScore, maxLabScore);
+            model.setLabMaxScore(labNumber, maxLabScore);
             updatePerson(model, personToUpdate, newLabScoreList);
-            refresh(model);
             successMessage = String.format(MESSAGE_UPDATE_BOTH_SCORES_SUCCESS, labNumber, maxLabScore,
                     index.getOneBased(), newLabScoreList.getLabScores().get(labNumber - 1).toString());
             break;
@@ -146,20 +154,46 @@ public class UpdateLabScoreCommand extends Command {
     }
 
     /**
-     * Refreshes all the contacts {@code maxLabScore} with the updated version.
+     * Checks that {@code maxLabScore} is a valid max score, and is not lower than the score of the lab
+     * of any person other than {@code excludedPerson}.
      *
      * @param model The provided model.
+     * @param excludedPerson The person whose score is not checked, or null to check every person.
+     * @throws CommandException If {@code maxLabScore} is not valid.
      */
-    private void refresh(Model model) {
+    private void checkMaxLabScore(Model model, Person excludedPerson) throws CommandException {
+        if (maxLabScore < 0) {
+            throw new CommandException(MESSAGE_INVALID_NEGATIVE_SCORE);
+        }
+
+        if (!LabSchema.isValidMaxScore(maxLabScore)) {
+            throw new CommandException(LabScoreList.EXCEED_MAX_LAB_SCORE_LIMIT);
+        }
+
+        int highestLabScore = excludedPerson == null
+                ? model.getHighestLabScore(labNumber)
+                : model.getHighestLabScoreExcluding(labNumber, excludedPerson);
+        if (highestLabScore <= maxLabScore) {
+            return;
+        }
+
+        // Only reached when the update is rejected, so the offending person is searched for in full here.
         List<Person> lastShownList = model.getFilteredPersonList();
         for (int i = 0; i < lastShownList.size(); i++) {
-            if (i == index.getZeroBased()) {
-                continue;
+            if (isExceedingMaxLabScore(lastShownList.get(i), excludedPerson)) {
+                throw new CommandException(String.format(LabScoreList.INVALID_LAB_MAX_SCORE, i + 1, maxLabScore));
             }
-            Person personToUpdate = lastShownList.get(i);
-            LabScoreList newLabScoreList = personToUpdate.getLabScoreList().refreshLabScore(labNumber, maxLabScore);
-            updatePerson(model, personToUpdate, newLabScoreList);
         }
+        for (Person person : model.getAddressBook().getPersonList()) {
+            if (isExceedingMaxLabScore(person, excludedPerson)) {
+                throw new CommandException(String.format(MESSAGE_HIDDEN_INVALID_LAB_MAX_SCORE,
+                        person.getMatNum(), maxLabScore));
+            }
+        }
+    }
+
+    private boolean isExceedingMaxLabScore(Person person, Person excludedPerson) {
+        return !person.isSamePerson(excludedPerson) && person.getLabScoreList().getScore(labNumber) > maxLabScore;
     }
 
     /**
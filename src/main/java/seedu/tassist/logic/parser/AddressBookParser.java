@@ -118,7 +118,7 @@ public class AddressBookParser {
             return new TagCommandParser().parse(arguments);
 
         case LoadDataCommand.COMMAND_WORD:
-            Operations.recordCurrentCommand("Load data", Operations.RecordType.IGNORE);
+            Operations.recordCurrentCommand(userInput, "Load data", Operations.RecordType.RECORD);
             return new LoadDataCommandParser().parse(arguments);
 
         case UndoCommand.COMMAND_WORD:
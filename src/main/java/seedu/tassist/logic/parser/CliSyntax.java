@@ -31,4 +31,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_EDIT_TAG = new Prefix("-m");
     public static final Prefix PREFIX_DELETE_TAG = new Prefix("-d");
     public static final Prefix PREFIX_EXTENSION = new Prefix("-ext");
+    public static final Prefix PREFIX_MERGE = new Prefix("-merge");
+    public static final Prefix PREFIX_PRUNE = new Prefix("-prune");
 }
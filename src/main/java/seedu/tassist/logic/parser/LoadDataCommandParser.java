@@ -3,10 +3,13 @@ package seedu.tassist.logic.parser;
 import static seedu.tassist.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.tassist.logic.parser.CliSyntax.PREFIX_EXTENSION;
 import static seedu.tassist.logic.parser.CliSyntax.PREFIX_FILE_PATH;
+import static seedu.tassist.logic.parser.CliSyntax.PREFIX_MERGE;
+import static seedu.tassist.logic.parser.CliSyntax.PREFIX_PRUNE;
 
 import java.util.stream.Stream;
 
 import seedu.tassist.logic.commands.LoadDataCommand;
+import seedu.tassist.logic.commands.LoadDataCommand.LoadMode;
 import seedu.tassist.logic.parser.exceptions.ParseException;
 
 /**
@@ -24,19 +27,27 @@ public class LoadDataCommandParser implements Parser<LoadDataCommand> {
      */
     @Override
     public LoadDataCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE_PATH, PREFIX_EXTENSION);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE_PATH, PREFIX_EXTENSION,
+                PREFIX_MERGE, PREFIX_PRUNE);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_FILE_PATH, PREFIX_EXTENSION)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LoadDataCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE_PATH, PREFIX_EXTENSION);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE_PATH, PREFIX_EXTENSION, PREFIX_MERGE, PREFIX_PRUNE);
+
+        boolean isMerge = argMultimap.getValue(PREFIX_MERGE).isPresent();
+        boolean isPrune = argMultimap.getValue(PREFIX_PRUNE).isPresent();
+        if (isPrune && !isMerge) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LoadDataCommand.MESSAGE_USAGE));
+        }
+        LoadMode loadMode = !isMerge ? LoadMode.REPLACE : isPrune ? LoadMode.MERGE_AND_PRUNE : LoadMode.MERGE;
 
         String fileName = argMultimap.getValue(PREFIX_FILE_PATH).orElse("");
         String extension = argMultimap.getValue(PREFIX_EXTENSION).orElse("").toLowerCase().trim();
 
-        return new LoadDataCommand(fileName, extension);
+        return new LoadDataCommand(fileName, extension, loadMode);
     }
 
     /**
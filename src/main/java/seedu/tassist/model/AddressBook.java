@@ -1,21 +1,62 @@
 package seedu.tassist.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.tassist.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.tassist.commons.util.ToStringBuilder;
+import seedu.tassist.model.person.Faculty;
+import seedu.tassist.model.person.LabGroup;
+import seedu.tassist.model.person.LabSchema;
+import seedu.tassist.model.person.LabScoreList;
+import seedu.tassist.model.person.MatNum;
 import seedu.tassist.model.person.Person;
+import seedu.tassist.model.person.PersonListVersion;
+import seedu.tassist.model.person.TutGroup;
 import seedu.tassist.model.person.UniquePersonList;
+import seedu.tassist.model.person.Year;
+import seedu.tassist.model.person.exceptions.DuplicatePersonException;
 
 /**
  * Wraps all data at the address-book level.
  * Duplicates are not allowed (by .isSamePerson comparison).
+ * Persons are additionally indexed by their tutorial group, lab group, faculty and year,
+ * so that the members of a group can be found without scanning every person,
+ * and by the trigrams of their searchable text fields.
+ * The max score of each lab is kept once in a {@code LabSchema} that the lab scores of every person are bound to,
+ * and the scores of each lab are counted so that the highest score of a lab is known without a scan.
+ * While a change journal is set, every change is also recorded in it, so that the change can be undone later.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    public static final String MESSAGE_INCONSISTENT_LAB_MAX_SCORES =
+            "Persons list contains person(s) with different lab max scores from the others: %1$s";
+    public static final String MESSAGE_DIFFERENT_LAB_MAX_SCORES =
+            "Persons to merge have different lab max scores from the address book";
+
+    /** The number of changes from which a delta is replayed in bulk, rather than one change at a time. */
+    static final int BULK_REPLAY_THRESHOLD = 32;
+
     private final UniquePersonList persons;
+    private final PersonGroupIndex<TutGroup> tutGroupIndex = new PersonGroupIndex<>(Person::getTutGroup);
+    private final PersonGroupIndex<LabGroup> labGroupIndex = new PersonGroupIndex<>(Person::getLabGroup);
+    private final PersonGroupIndex<Faculty> facultyIndex = new PersonGroupIndex<>(Person::getFaculty);
+    private final PersonGroupIndex<Year> yearIndex = new PersonGroupIndex<>(Person::getYear);
+    private final PersonTextIndex textIndex = new PersonTextIndex();
+    private final LabSchema labSchema = new LabSchema();
+    private final LabScoreAggregate labScoreAggregate = new LabScoreAggregate();
+    private Delta journal;
+    private boolean isReplayingInBulk = false;
+    private long modificationCount = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block,
@@ -46,9 +87,19 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * The lab schema is taken from the persons, if any, who must all have the same lab max scores.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        requireSameLabSchema(persons);
+        PersonListVersion oldPersons = this.persons.getVersion();
+        LabSchema oldLabSchema = new LabSchema(labSchema);
+        if (!persons.isEmpty()) {
+            labSchema.resetData(persons.get(0).getLabScoreList().getLabSchema());
+        }
+        this.persons.setPersons(bindToLabSchema(persons));
+        rebuildIndexes();
+        recordReset(oldPersons, oldLabSchema);
+        modificationCount++;
     }
 
     /**
@@ -57,9 +108,97 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // Persons are rebound to the lab schema of this address book, so that the two books never share one.
+            AddressBook newAddressBook = (AddressBook) newData;
+            PersonListVersion oldPersons = persons.getVersion();
+            LabSchema oldLabSchema = new LabSchema(labSchema);
+            labSchema.resetData(newAddressBook.labSchema);
+            persons.setPersons(bindToLabSchema(newAddressBook.persons));
+            rebuildIndexes();
+            recordReset(oldPersons, oldLabSchema);
+            modificationCount++;
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Merges {@code incomingPersons} into this address book, matching persons by their {@code MatNum}:
+     * persons not in the address book yet are added at its end, and persons that differ replace the existing
+     * ones in place. If {@code isPruning} is true, persons not among {@code incomingPersons} are removed.
+     * The incoming persons are hashed by {@code MatNum} once, so the merge takes time linear in both lists,
+     * and all the changes are made to the person list at once, as a single reset.
+     * The incoming persons must all have the same lab max scores, which become those of this address book
+     * if it holds no persons yet, and must otherwise match its own.
+     *
+     * @return How many persons were added, updated, left unchanged and removed.
+     * @throws DuplicatePersonException listing every duplicated {@code MatNum} in {@code incomingPersons},
+     *     in which case the address book is left unchanged.
+     */
+    public MergeSummary mergePersons(List<Person> incomingPersons, boolean isPruning) {
+        requireNonNull(incomingPersons);
+        List<MatNum> duplicateMatNums = UniquePersonList.findDuplicateMatNums(incomingPersons);
+        if (!duplicateMatNums.isEmpty()) {
+            throw new DuplicatePersonException(duplicateMatNums);
+        }
+        requireSameLabSchema(incomingPersons);
+        PersonListVersion oldPersons = persons.getVersion();
+        checkArgument(oldPersons.size() == 0 || incomingPersons.isEmpty()
+                || incomingPersons.get(0).getLabScoreList().getLabSchema().equals(labSchema),
+                MESSAGE_DIFFERENT_LAB_MAX_SCORES);
+        LabSchema oldLabSchema = new LabSchema(labSchema);
+        Map<MatNum, Person> incomingByMatNum = new HashMap<>();
+        for (Person person : incomingPersons) {
+            incomingByMatNum.put(person.getMatNum(), person);
+        }
+        if (oldPersons.size() == 0 && !incomingPersons.isEmpty()) {
+            labSchema.resetData(incomingPersons.get(0).getLabScoreList().getLabSchema());
+        }
+
+        List<Person> mergedPersons = new ArrayList<>();
+        int updatedCount = 0;
+        int unchangedCount = 0;
+        int deletedCount = 0;
+        for (Person existingPerson : persons) {
+            Person incomingPerson = incomingByMatNum.remove(existingPerson.getMatNum());
+            if (incomingPerson == null) {
+                if (isPruning) {
+                    deletedCount++;
+                } else {
+                    mergedPersons.add(existingPerson);
+                }
+                continue;
+            }
+            Person boundPerson = bindToLabSchema(incomingPerson);
+            if (boundPerson.equals(existingPerson)) {
+                mergedPersons.add(existingPerson);
+                unchangedCount++;
+            } else {
+                mergedPersons.add(boundPerson);
+                updatedCount++;
+            }
+        }
+        // What is left of the incoming persons is new, and goes last in the order it came in.
+        int addedCount = 0;
+        for (Person person : incomingPersons) {
+            if (incomingByMatNum.remove(person.getMatNum()) != null) {
+                mergedPersons.add(bindToLabSchema(person));
+                addedCount++;
+            }
+        }
+
+        MergeSummary summary = new MergeSummary(addedCount, updatedCount, unchangedCount, deletedCount);
+        if (summary.isEmpty()) {
+            return summary;
+        }
+        persons.setPersons(mergedPersons);
+        rebuildIndexes();
+        recordReset(oldPersons, oldLabSchema);
+        modificationCount++;
+        return summary;
+    }
+
     //// person-level operations
 
     /**
@@ -70,12 +209,50 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code matNum} in the address book, if any.
+     */
+    public Optional<Person> findByMatNum(MatNum matNum) {
+        requireNonNull(matNum);
+        return persons.findByMatNum(matNum);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
+     * The lab scores of the person are bound to the lab schema of this address book.
      */
-    public void addPerson(Person p) {
+    public void addPerson(Person person) {
+        Person p = bindToLabSchema(person);
         persons.add(p);
+        addToIndexes(p);
+        if (journal != null) {
+            journal.recordAdded(p);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Inserts a person at position {@code index} of the person list, to undo the removal of the person.
+     * The person must not already exist in the address book. The insertion is not recorded in the change journal.
+     */
+    void insertPerson(int index, Person person) {
+        Person p = bindToLabSchema(person);
+        persons.add(index, p);
+        addToIndexes(p);
+        modificationCount++;
+    }
+
+    private void addToIndexes(Person p) {
+        if (isReplayingInBulk) {
+            return;
+        }
+        tutGroupIndex.add(p);
+        labGroupIndex.add(p);
+        facultyIndex.add(p);
+        yearIndex.add(p);
+        textIndex.add(p);
+        labScoreAggregate.add(p);
     }
 
     /**
@@ -84,10 +261,28 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person identity of {@code editedPerson} must not be the same as another existing
      * person in the address book.
      */
-    public void setPerson(Person target, Person editedPerson) {
-        requireNonNull(editedPerson);
+    public void setPerson(Person target, Person person) {
+        requireNonNull(person);
 
+        Person editedPerson = bindToLabSchema(person);
         persons.setPerson(target, editedPerson);
+        replaceInIndexes(target, editedPerson);
+        if (journal != null) {
+            journal.recordReplaced(target, editedPerson);
+        }
+        modificationCount++;
+    }
+
+    private void replaceInIndexes(Person target, Person editedPerson) {
+        if (isReplayingInBulk) {
+            return;
+        }
+        tutGroupIndex.replace(target, editedPerson);
+        labGroupIndex.replace(target, editedPerson);
+        facultyIndex.replace(target, editedPerson);
+        yearIndex.replace(target, editedPerson);
+        textIndex.replace(target, editedPerson);
+        labScoreAggregate.replace(target, editedPerson);
     }
 
     /**
@@ -95,7 +290,253 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        int index = persons.remove(key);
+        removeFromIndexes(key);
+        if (journal != null) {
+            journal.recordRemoved(key, index);
+        }
+        modificationCount++;
+    }
+
+    private void removeFromIndexes(Person key) {
+        if (isReplayingInBulk) {
+            return;
+        }
+        tutGroupIndex.remove(key);
+        labGroupIndex.remove(key);
+        facultyIndex.remove(key);
+        yearIndex.remove(key);
+        textIndex.remove(key);
+        labScoreAggregate.remove(key);
+    }
+
+    //// lab-level operations
+
+    /**
+     * Returns a copy of the lab schema of this address book.
+     * The schema is shared by the lab scores of every person, so it is only changed through this address book.
+     */
+    public LabSchema getLabSchema() {
+        return new LabSchema(labSchema);
+    }
+
+    /**
+     * Replaces the lab count and max scores of this address book with those of {@code newLabSchema}.
+     */
+    public void setLabSchema(LabSchema newLabSchema) {
+        requireNonNull(newLabSchema);
+        PersonListVersion oldPersons = persons.getVersion();
+        LabSchema oldLabSchema = new LabSchema(labSchema);
+        labSchema.resetData(newLabSchema);
+        persons.setPersons(bindToLabSchema(persons));
+        rebuildIndexes();
+        recordReset(oldPersons, oldLabSchema);
+        modificationCount++;
+    }
+
+    /**
+     * Sets the max score of the lab with the given {@code labNumber} for every person at once.
+     * Existing scores are not checked against {@code maxScore}.
+     */
+    public void setLabMaxScore(int labNumber, int maxScore) {
+        int oldMaxScore = labSchema.getMaxScore(labNumber);
+        labSchema.setMaxScore(labNumber, maxScore);
+        if (journal != null) {
+            journal.recordLabMaxScoreChanged(labNumber, oldMaxScore, maxScore);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Returns the highest score of the lab with the given {@code labNumber} across all persons,
+     * or {@code LabScore.DEFAULT_SCORE} if no person has been graded for it.
+     */
+    public int getHighestLabScore(int labNumber) {
+        return labScoreAggregate.getHighestScore(labNumber);
+    }
+
+    /**
+     * Returns the highest score of the lab with the given {@code labNumber} across all persons other than
+     * {@code excludedPerson}, or {@code LabScore.DEFAULT_SCORE} if no such person has been graded for it.
+     * {@code excludedPerson} must exist in the address book.
+     */
+    public int getHighestLabScoreExcluding(int labNumber, Person excludedPerson) {
+        requireNonNull(excludedPerson);
+        return labScoreAggregate.getHighestScoreExcluding(labNumber, excludedPerson);
+    }
+
+    /**
+     * Returns {@code person}, with its lab scores bound to the lab schema of this address book.
+     */
+    private Person bindToLabSchema(Person person) {
+        LabScoreList boundLabScoreList = person.getLabScoreList().bindTo(labSchema);
+        if (boundLabScoreList == person.getLabScoreList()) {
+            return person;
+        }
+        return person.withLabScoreList(boundLabScoreList);
+    }
+
+    /**
+     * Returns the matriculation numbers of the persons whose lab max scores differ from those of the first person,
+     * as every person of an address book shares one {@code LabSchema}.
+     */
+    public static List<MatNum> findInconsistentLabSchemas(List<Person> persons) {
+        List<MatNum> inconsistentMatNums = new ArrayList<>();
+        if (persons.isEmpty()) {
+            return inconsistentMatNums;
+        }
+        LabSchema firstLabSchema = persons.get(0).getLabScoreList().getLabSchema();
+        for (Person person : persons) {
+            if (!person.getLabScoreList().getLabSchema().equals(firstLabSchema)) {
+                inconsistentMatNums.add(person.getMatNum());
+            }
+        }
+        return inconsistentMatNums;
+    }
+
+    private static void requireSameLabSchema(List<Person> persons) {
+        List<MatNum> inconsistentMatNums = findInconsistentLabSchemas(persons);
+        checkArgument(inconsistentMatNums.isEmpty(), String.format(MESSAGE_INCONSISTENT_LAB_MAX_SCORES,
+                inconsistentMatNums.stream().map(MatNum::toString).collect(Collectors.joining(", "))));
+    }
+
+    private List<Person> bindToLabSchema(Iterable<Person> persons) {
+        List<Person> boundPersons = new ArrayList<>();
+        for (Person person : persons) {
+            boundPersons.add(bindToLabSchema(person));
+        }
+        return boundPersons;
+    }
+
+    //// change journal operations
+
+    /**
+     * Returns the number of changes made to this address book so far.
+     * The count only ever grows, so an unchanged count means the address book has not changed.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Records every later change to this address book in {@code journal}, or stops recording if it is null.
+     */
+    public void setChangeJournal(Delta journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Makes the changes recorded in {@code delta} again, or undoes them if {@code isUndo} is true.
+     * The changes are not recorded in the change journal.
+     * A delta of many changes is replayed in bulk: the changes are made to the person list without telling
+     * its listeners, which then receive a single change event, and the indexes are rebuilt once at the end.
+     */
+    public void applyDelta(Delta delta, boolean isUndo) {
+        requireNonNull(delta);
+        Delta suspendedJournal = journal;
+        journal = null;
+        boolean isBulk = delta.getChanges().size() >= BULK_REPLAY_THRESHOLD;
+        if (isBulk) {
+            persons.beginBulkChange();
+            isReplayingInBulk = true;
+        }
+        try {
+            if (isUndo) {
+                delta.revert(this);
+            } else {
+                delta.apply(this);
+            }
+        } finally {
+            journal = suspendedJournal;
+            if (isBulk) {
+                isReplayingInBulk = false;
+                persons.endBulkChange();
+                rebuildIndexes();
+            }
+        }
+    }
+
+    /**
+     * Replaces the persons and lab schema of this address book with {@code version} and {@code newLabSchema},
+     * sharing {@code version} instead of copying it.
+     */
+    void restore(PersonListVersion version, LabSchema newLabSchema) {
+        labSchema.resetData(newLabSchema);
+        persons.setVersion(version);
+        // Persons read back from a file, or from before the lab count changed, must be bound again.
+        if (version.size() > 0 && bindToLabSchema(version.get(0)) != version.get(0)) {
+            persons.setPersons(bindToLabSchema(persons));
+        }
+        if (!isReplayingInBulk) {
+            rebuildIndexes();
+        }
+        modificationCount++;
+    }
+
+    private void recordReset(PersonListVersion oldPersons, LabSchema oldLabSchema) {
+        if (journal != null) {
+            journal.recordReset(oldPersons, oldLabSchema, persons.getVersion(), new LabSchema(labSchema));
+        }
+    }
+
+    //// group-level operations
+
+    /**
+     * Returns the persons in the given tutorial group, in the order they joined it.
+     */
+    public List<Person> getPersonsInTutGroup(TutGroup tutGroup) {
+        requireNonNull(tutGroup);
+        return tutGroupIndex.get(tutGroup);
+    }
+
+    /**
+     * Returns the persons whose tutorial group satisfies {@code tutGroupPredicate}.
+     */
+    public List<Person> getPersonsByTutGroup(Predicate<TutGroup> tutGroupPredicate) {
+        return tutGroupIndex.getMatching(tutGroupPredicate);
+    }
+
+    /**
+     * Returns the persons whose lab group satisfies {@code labGroupPredicate}.
+     */
+    public List<Person> getPersonsByLabGroup(Predicate<LabGroup> labGroupPredicate) {
+        return labGroupIndex.getMatching(labGroupPredicate);
+    }
+
+    /**
+     * Returns the persons whose faculty satisfies {@code facultyPredicate}.
+     */
+    public List<Person> getPersonsByFaculty(Predicate<Faculty> facultyPredicate) {
+        return facultyIndex.getMatching(facultyPredicate);
+    }
+
+    /**
+     * Returns the persons whose year satisfies {@code yearPredicate}.
+     */
+    public List<Person> getPersonsByYear(Predicate<Year> yearPredicate) {
+        return yearIndex.getMatching(yearPredicate);
+    }
+
+    /**
+     * Returns the matriculation numbers of the persons whose {@code field} may contain {@code substring},
+     * ignoring case, or an empty {@code Optional} if {@code substring} is too short to be looked up.
+     * Candidates must still be checked against the field itself.
+     */
+    public Optional<Set<MatNum>> findCandidatesContaining(PersonTextIndex.Field field, String substring) {
+        return textIndex.findCandidates(field, substring);
+    }
+
+    /**
+     * Rebuilds every group and text index, and the lab score aggregate,
+     * from the current contents of the person list.
+     */
+    private void rebuildIndexes() {
+        tutGroupIndex.setAll(persons);
+        labGroupIndex.setAll(persons);
+        facultyIndex.setAll(persons);
+        yearIndex.setAll(persons);
+        textIndex.setAll(persons);
+        labScoreAggregate.setAll(persons);
     }
 
     //// util methods
@@ -107,6 +548,14 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .toString();
     }
 
+    /**
+     * Returns the current persons as an immutable version, in O(1) time.
+     * Later changes to this address book do not affect the returned version.
+     */
+    public PersonListVersion getPersonListVersion() {
+        return persons.getVersion();
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
@@ -124,7 +573,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         AddressBook otherAddressBook = (AddressBook) other;
-        return persons.equals(otherAddressBook.persons);
+        return persons.equals(otherAddressBook.persons)
+                && labSchema.equals(otherAddressBook.labSchema);
     }
 
     @Override
@@ -0,0 +1,60 @@
+package seedu.tassist.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.tassist.model.person.LabSchema;
+import seedu.tassist.model.person.Person;
+import seedu.tassist.model.person.PersonListVersion;
+
+/**
+ * An immutable view of the persons of an address book at one point in time, which can be read from any thread.
+ * A view of an {@code AddressBook} shares its current {@code PersonListVersion}, so it takes O(1) time to make.
+ * The lab max scores are copied into the view when it is made, and the persons are bound to the copy
+ * when they are first read, so that later changes to the lab schema of the address book do not reach the view.
+ */
+public class AddressBookView implements ReadOnlyAddressBook {
+
+    private final List<Person> sourcePersons;
+    private final LabSchema labSchema;
+    // Guarded by this. The persons bound to the lab schema of this view, once they have been read.
+    private ObservableList<Person> persons = null;
+
+    private AddressBookView(List<Person> sourcePersons, LabSchema labSchema) {
+        this.sourcePersons = sourcePersons;
+        this.labSchema = labSchema;
+    }
+
+    /**
+     * Returns a view of the persons {@code addressBook} holds now.
+     */
+    public static ReadOnlyAddressBook of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBookView) {
+            return addressBook;
+        }
+        if (addressBook instanceof AddressBook) {
+            AddressBook source = (AddressBook) addressBook;
+            PersonListVersion version = source.getPersonListVersion();
+            return new AddressBookView(version.asList(), source.getLabSchema());
+        }
+        return new AddressBookView(new ArrayList<>(addressBook.getPersonList()), null);
+    }
+
+    @Override
+    public synchronized ObservableList<Person> getPersonList() {
+        if (persons == null) {
+            List<Person> boundPersons = new ArrayList<>(sourcePersons.size());
+            for (Person person : sourcePersons) {
+                boundPersons.add(labSchema == null ? person
+                        : person.withLabScoreList(person.getLabScoreList().bindTo(labSchema)));
+            }
+            persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(boundPersons));
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,278 @@
+package seedu.tassist.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.tassist.model.person.LabSchema;
+import seedu.tassist.model.person.Person;
+import seedu.tassist.model.person.PersonListVersion;
+import seedu.tassist.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Records the changes a command made to an {@code AddressBook}, in the order they were made,
+ * so that they can be undone and redone in time proportional to the number of changes.
+ * Persons are recorded by reference and found again by their {@code MatNum} when the changes are replayed,
+ * so the cost of a delta does not grow with the number of persons in the address book.
+ */
+public class Delta {
+
+    private final List<Change> changes = new ArrayList<>();
+    private int weight;
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Returns an estimate of the memory this delta holds, as the number of persons it refers to.
+     * Persons shared by the versions of a reset are counted once for each version, so this is an upper bound.
+     */
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * Returns the recorded changes, in the order they were made.
+     */
+    public List<Change> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Records that {@code person} was added to the end of the person list.
+     */
+    public void recordAdded(Person person) {
+        requireNonNull(person);
+        changes.add(new PersonChange(null, person, -1));
+        weight++;
+    }
+
+    /**
+     * Records that {@code person} was removed from position {@code index} of the person list.
+     */
+    public void recordRemoved(Person person, int index) {
+        requireNonNull(person);
+        changes.add(new PersonChange(person, null, index));
+        weight++;
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedPerson}.
+     * A replacement of a person that was added or replaced by the previous change is merged into that change.
+     */
+    public void recordReplaced(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        if (!changes.isEmpty() && changes.get(changes.size() - 1) instanceof PersonChange) {
+            PersonChange last = (PersonChange) changes.get(changes.size() - 1);
+            if (last.after == target) {
+                changes.set(changes.size() - 1, new PersonChange(last.before, editedPerson, last.index));
+                return;
+            }
+        }
+        changes.add(new PersonChange(target, editedPerson, -1));
+        weight += 2;
+    }
+
+    /**
+     * Records that the max score of the lab with the given {@code labNumber} changed from
+     * {@code oldMaxScore} to {@code newMaxScore}.
+     */
+    public void recordLabMaxScoreChanged(int labNumber, int oldMaxScore, int newMaxScore) {
+        changes.add(new LabMaxScoreChange(labNumber, oldMaxScore, newMaxScore));
+        weight++;
+    }
+
+    /**
+     * Records that the whole address book was replaced.
+     * The lab schemas must not be changed afterwards.
+     */
+    public void recordReset(PersonListVersion oldPersons, LabSchema oldLabSchema,
+            PersonListVersion newPersons, LabSchema newLabSchema) {
+        changes.add(new ResetChange(oldPersons, oldLabSchema, newPersons, newLabSchema));
+        weight += oldPersons.size() + newPersons.size() + 1;
+    }
+
+    /**
+     * Appends the changes of {@code other} after the changes of this delta.
+     */
+    public void append(Delta other) {
+        requireNonNull(other);
+        changes.addAll(other.changes);
+        weight += other.weight;
+    }
+
+    /**
+     * Makes the recorded changes to {@code addressBook} again, in the order they were made.
+     * {@code addressBook} must be in the state it was in before the changes were made.
+     */
+    void apply(AddressBook addressBook) {
+        for (Change change : changes) {
+            change.apply(addressBook);
+        }
+    }
+
+    /**
+     * Undoes the recorded changes to {@code addressBook}, in the reverse of the order they were made.
+     * {@code addressBook} must be in the state it was in after the changes were made.
+     */
+    void revert(AddressBook addressBook) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(addressBook);
+        }
+    }
+
+    /**
+     * A single change to an address book.
+     */
+    public interface Change {
+        void apply(AddressBook addressBook);
+
+        void revert(AddressBook addressBook);
+    }
+
+    /**
+     * The addition, removal or replacement of a person.
+     * {@code before} is null for an addition, and {@code after} is null for a removal.
+     */
+    public static class PersonChange implements Change {
+        private final Person before;
+        private final Person after;
+        private final int index;
+
+        PersonChange(Person before, Person after, int index) {
+            this.before = before;
+            this.after = after;
+            this.index = index;
+        }
+
+        public Person getBefore() {
+            return before;
+        }
+
+        public Person getAfter() {
+            return after;
+        }
+
+        /**
+         * Returns the position the person was removed from, or -1 if the person was not removed.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public void apply(AddressBook addressBook) {
+            if (before == null) {
+                addressBook.addPerson(after);
+            } else if (after == null) {
+                addressBook.removePerson(findCurrent(addressBook, before));
+            } else {
+                addressBook.setPerson(findCurrent(addressBook, before), after);
+            }
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            if (before == null) {
+                addressBook.removePerson(findCurrent(addressBook, after));
+            } else if (after == null) {
+                addressBook.insertPerson(index, before);
+            } else {
+                addressBook.setPerson(findCurrent(addressBook, after), before);
+            }
+        }
+
+        /**
+         * Returns the person in {@code addressBook} with the {@code MatNum} of {@code recorded}.
+         * The two may differ in their lab max scores, if {@code recorded} was read back from a file.
+         */
+        private static Person findCurrent(AddressBook addressBook, Person recorded) {
+            return addressBook.findByMatNum(recorded.getMatNum()).orElseThrow(PersonNotFoundException::new);
+        }
+    }
+
+    /**
+     * A change to the max score of a lab.
+     */
+    public static class LabMaxScoreChange implements Change {
+        private final int labNumber;
+        private final int oldMaxScore;
+        private final int newMaxScore;
+
+        LabMaxScoreChange(int labNumber, int oldMaxScore, int newMaxScore) {
+            this.labNumber = labNumber;
+            this.oldMaxScore = oldMaxScore;
+            this.newMaxScore = newMaxScore;
+        }
+
+        public int getLabNumber() {
+            return labNumber;
+        }
+
+        public int getOldMaxScore() {
+            return oldMaxScore;
+        }
+
+        public int getNewMaxScore() {
+            return newMaxScore;
+        }
+
+        @Override
+        public void apply(AddressBook addressBook) {
+            addressBook.setLabMaxScore(labNumber, newMaxScore);
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.setLabMaxScore(labNumber, oldMaxScore);
+        }
+    }
+
+    /**
+     * The replacement of the whole address book, recorded as structurally shared versions of the person list.
+     */
+    public static class ResetChange implements Change {
+        private final PersonListVersion oldPersons;
+        private final LabSchema oldLabSchema;
+        private final PersonListVersion newPersons;
+        private final LabSchema newLabSchema;
+
+        ResetChange(PersonListVersion oldPersons, LabSchema oldLabSchema,
+                PersonListVersion newPersons, LabSchema newLabSchema) {
+            this.oldPersons = oldPersons;
+            this.oldLabSchema = oldLabSchema;
+            this.newPersons = newPersons;
+            this.newLabSchema = newLabSchema;
+        }
+
+        public PersonListVersion getOldPersons() {
+            return oldPersons;
+        }
+
+        public LabSchema getOldLabSchema() {
+            return oldLabSchema;
+        }
+
+        public PersonListVersion getNewPersons() {
+            return newPersons;
+        }
+
+        public LabSchema getNewLabSchema() {
+            return newLabSchema;
+        }
+
+        @Override
+        public void apply(AddressBook addressBook) {
+            addressBook.restore(newPersons, newLabSchema);
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.restore(oldPersons, oldLabSchema);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.tassist.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tassist.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.tassist.model.person.LabScore;
+import seedu.tassist.model.person.LabScoreList;
+import seedu.tassist.model.person.Person;
+
+/**
+ * Counts, for each lab, how many persons have each score, so that the highest score of a lab
+ * can be found without scanning every person.
+ * Labs that a person has not been graded for are not counted.
+ */
+public class LabScoreAggregate {
+
+    /** For each lab, in order of lab number, the number of persons with each score. */
+    private final List<TreeMap<Integer, Integer>> scoreCounts = new ArrayList<>();
+
+    /**
+     * Counts the lab scores of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        LabScoreList labScoreList = person.getLabScoreList();
+        for (int labNumber = 1; labNumber <= labScoreList.getLabCount(); labNumber++) {
+            increment(labNumber, labScoreList.getScore(labNumber));
+        }
+    }
+
+    /**
+     * Stops counting the lab scores of {@code person}.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        LabScoreList labScoreList = person.getLabScoreList();
+        for (int labNumber = 1; labNumber <= labScoreList.getLabCount(); labNumber++) {
+            decrement(labNumber, labScoreList.getScore(labNumber));
+        }
+    }
+
+    /**
+     * Replaces the lab scores of {@code target} with those of {@code editedPerson}.
+     * Labs whose scores did not change are left untouched.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        LabScoreList oldLabScoreList = target.getLabScoreList();
+        LabScoreList newLabScoreList = editedPerson.getLabScoreList();
+        int labCount = Math.max(oldLabScoreList.getLabCount(), newLabScoreList.getLabCount());
+        for (int labNumber = 1; labNumber <= labCount; labNumber++) {
+            int oldScore = getScore(oldLabScoreList, labNumber);
+            int newScore = getScore(newLabScoreList, labNumber);
+            if (oldScore != newScore) {
+                decrement(labNumber, oldScore);
+                increment(labNumber, newScore);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this aggregate with the lab scores of {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        scoreCounts.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the highest score of the lab with the given {@code labNumber},
+     * or {@code LabScore.DEFAULT_SCORE} if no person has been graded for it.
+     */
+    public int getHighestScore(int labNumber) {
+        if (labNumber < 1 || labNumber > scoreCounts.size() || scoreCounts.get(labNumber - 1).isEmpty()) {
+            return LabScore.DEFAULT_SCORE;
+        }
+        return scoreCounts.get(labNumber - 1).lastKey();
+    }
+
+    /**
+     * Returns the highest score of the lab with the given {@code labNumber} if the score of
+     * {@code excludedPerson} were not counted, or {@code LabScore.DEFAULT_SCORE} if no other person
+     * has been graded for it. {@code excludedPerson} must already be counted.
+     */
+    public int getHighestScoreExcluding(int labNumber, Person excludedPerson) {
+        requireNonNull(excludedPerson);
+        int highestScore = getHighestScore(labNumber);
+        int excludedScore = getScore(excludedPerson.getLabScoreList(), labNumber);
+        if (highestScore == LabScore.DEFAULT_SCORE || excludedScore != highestScore) {
+            return highestScore;
+        }
+
+        TreeMap<Integer, Integer> labScoreCounts = scoreCounts.get(labNumber - 1);
+        if (labScoreCounts.get(highestScore) > 1) {
+            return highestScore;
+        }
+        Integer nextHighestScore = labScoreCounts.lowerKey(highestScore);
+        return nextHighestScore == null ? LabScore.DEFAULT_SCORE : nextHighestScore;
+    }
+
+    private void increment(int labNumber, int score) {
+        if (score == LabScore.DEFAULT_SCORE) {
+            return;
+        }
+        while (scoreCounts.size() < labNumber) {
+            scoreCounts.add(new TreeMap<>());
+        }
+        scoreCounts.get(labNumber - 1).merge(score, 1, Integer::sum);
+    }
+
+    private void decrement(int labNumber, int score) {
+        if (score == LabScore.DEFAULT_SCORE || labNumber > scoreCounts.size()) {
+            return;
+        }
+        Map<Integer, Integer> labScoreCounts = scoreCounts.get(labNumber - 1);
+        labScoreCounts.computeIfPresent(score, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Returns the score of the given lab in {@code labScoreList}, treating labs beyond the list as not graded.
+     */
+    private static int getScore(LabScoreList labScoreList, int labNumber) {
+        if (labNumber < 1 || labNumber > labScoreList.getLabCount()) {
+            return LabScore.DEFAULT_SCORE;
+        }
+        return labScoreList.getScore(labNumber);
+    }
+}
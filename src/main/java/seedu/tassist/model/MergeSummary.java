@@ -0,0 +1,82 @@
+package seedu.tassist.model;
+
+import java.util.Objects;
+
+import seedu.tassist.commons.util.ToStringBuilder;
+
+/**
+ * Counts how the persons of an address book changed when persons from another one were merged into it.
+ */
+public class MergeSummary {
+
+    private final int addedCount;
+    private final int updatedCount;
+    private final int unchangedCount;
+    private final int deletedCount;
+
+    /**
+     * Creates a {@code MergeSummary} with the given counts of persons.
+     */
+    public MergeSummary(int addedCount, int updatedCount, int unchangedCount, int deletedCount) {
+        assert addedCount >= 0 && updatedCount >= 0 && unchangedCount >= 0 && deletedCount >= 0;
+        this.addedCount = addedCount;
+        this.updatedCount = updatedCount;
+        this.unchangedCount = unchangedCount;
+        this.deletedCount = deletedCount;
+    }
+
+    public int getAddedCount() {
+        return addedCount;
+    }
+
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public int getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    public int getDeletedCount() {
+        return deletedCount;
+    }
+
+    /**
+     * Returns true if the merge changed no person.
+     */
+    public boolean isEmpty() {
+        return addedCount == 0 && updatedCount == 0 && deletedCount == 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof MergeSummary)) {
+            return false;
+        }
+
+        MergeSummary otherSummary = (MergeSummary) other;
+        return addedCount == otherSummary.addedCount
+                && updatedCount == otherSummary.updatedCount
+                && unchangedCount == otherSummary.unchangedCount
+                && deletedCount == otherSummary.deletedCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(addedCount, updatedCount, unchangedCount, deletedCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("added", addedCount)
+                .add("updated", updatedCount)
+                .add("unchanged", unchangedCount)
+                .add("deleted", deletedCount)
+                .toString();
+    }
+}
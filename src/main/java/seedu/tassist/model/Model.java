@@ -1,11 +1,22 @@
 package seedu.tassist.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.tassist.commons.core.GuiSettings;
+import seedu.tassist.model.person.Faculty;
+import seedu.tassist.model.person.LabGroup;
+import seedu.tassist.model.person.LabSchema;
+import seedu.tassist.model.person.MatNum;
 import seedu.tassist.model.person.Person;
+import seedu.tassist.model.person.PersonListVersion;
+import seedu.tassist.model.person.TutGroup;
+import seedu.tassist.model.person.Year;
+import seedu.tassist.model.person.exceptions.DuplicatePersonException;
 
 /**
  * The API of the Model component.
@@ -49,14 +60,35 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Merges the persons of {@code addressBook} into the address book by their {@code MatNum}, adding new persons
+     * and replacing changed ones, and removing the persons it does not hold if {@code isPruning} is true.
+     *
+     * @return How many persons were added, updated, left unchanged and removed.
+     * @throws DuplicatePersonException if {@code addressBook} holds more than one person with the same
+     *     {@code MatNum}, in which case the address book is left unchanged.
+     */
+    MergeSummary mergeAddressBook(ReadOnlyAddressBook addressBook, boolean isPruning);
+
     /** Returns the AddressBook. */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the current persons of the address book as an immutable version, in O(1) time.
+     * Later changes to the address book do not affect the returned version.
+     */
+    PersonListVersion getPersonListVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person with the given {@code matNum} in the address book, if any.
+     */
+    Optional<Person> findByMatNum(MatNum matNum);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -77,6 +109,76 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the persons in the given {@code tutGroup} that are in the filtered person list.
+     */
+    List<Person> getFilteredPersonsInTutGroup(TutGroup tutGroup);
+
+    /**
+     * Returns the persons whose tutorial group satisfies {@code tutGroupPredicate}.
+     */
+    List<Person> getPersonsByTutGroup(Predicate<TutGroup> tutGroupPredicate);
+
+    /**
+     * Returns the persons whose lab group satisfies {@code labGroupPredicate}.
+     */
+    List<Person> getPersonsByLabGroup(Predicate<LabGroup> labGroupPredicate);
+
+    /**
+     * Returns the persons whose faculty satisfies {@code facultyPredicate}.
+     */
+    List<Person> getPersonsByFaculty(Predicate<Faculty> facultyPredicate);
+
+    /**
+     * Returns the persons whose year satisfies {@code yearPredicate}.
+     */
+    List<Person> getPersonsByYear(Predicate<Year> yearPredicate);
+
+    /**
+     * Returns the matriculation numbers of the persons whose {@code field} may contain {@code substring},
+     * ignoring case, or an empty {@code Optional} if {@code substring} is too short to be looked up.
+     * Candidates must still be checked against the field itself.
+     */
+    Optional<Set<MatNum>> findCandidatesContaining(PersonTextIndex.Field field, String substring);
+
+    /** Returns a copy of the lab schema shared by the lab scores of every person. */
+    LabSchema getLabSchema();
+
+    /**
+     * Sets the max score of the lab with the given {@code labNumber} for every person at once.
+     * Existing scores are not checked against {@code maxScore}.
+     */
+    void setLabMaxScore(int labNumber, int maxScore);
+
+    /**
+     * Records every later change to the address book in {@code journal}, or stops recording if it is null.
+     */
+    void setChangeJournal(Delta journal);
+
+    /**
+     * Makes the changes recorded in {@code delta} to the address book again,
+     * or undoes them if {@code isUndo} is true.
+     */
+    void applyDelta(Delta delta, boolean isUndo);
+
+    /**
+     * Returns a version of the address book that changes whenever the address book changes,
+     * so that an unchanged version means the address book need not be saved again.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the highest score of the lab with the given {@code labNumber} across all persons,
+     * or {@code LabScore.DEFAULT_SCORE} if no person has been graded for it.
+     */
+    int getHighestLabScore(int labNumber);
+
+    /**
+     * Returns the highest score of the lab with the given {@code labNumber} across all persons other than
+     * {@code excludedPerson}, or {@code LabScore.DEFAULT_SCORE} if no such person has been graded for it.
+     */
+    int getHighestLabScoreExcluding(int labNumber, Person excludedPerson);
+
     /** Returns an unmodifiable view of the filtered person list. */
     ObservableList<Person> getFilteredPersonList();
 
@@ -4,14 +4,25 @@ import static java.util.Objects.requireNonNull;
 import static seedu.tassist.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.tassist.commons.core.GuiSettings;
 import seedu.tassist.commons.core.LogsCenter;
+import seedu.tassist.model.person.Faculty;
+import seedu.tassist.model.person.LabGroup;
+import seedu.tassist.model.person.LabSchema;
+import seedu.tassist.model.person.MatNum;
 import seedu.tassist.model.person.Person;
+import seedu.tassist.model.person.PersonListVersion;
+import seedu.tassist.model.person.TutGroup;
+import seedu.tassist.model.person.Year;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,6 +33,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private Predicate<Person> shownPredicate = PREDICATE_SHOW_ALL_PERSONS;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -83,17 +95,34 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public MergeSummary mergeAddressBook(ReadOnlyAddressBook addressBook, boolean isPruning) {
+        requireNonNull(addressBook);
+        return this.addressBook.mergePersons(addressBook.getPersonList(), isPruning);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
+    @Override
+    public PersonListVersion getPersonListVersion() {
+        return addressBook.getPersonListVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> findByMatNum(MatNum matNum) {
+        requireNonNull(matNum);
+        return addressBook.findByMatNum(matNum);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -112,6 +141,91 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public List<Person> getFilteredPersonsInTutGroup(TutGroup tutGroup) {
+        requireNonNull(tutGroup);
+        List<Person> members = addressBook.getPersonsInTutGroup(tutGroup);
+        Predicate<? super Person> shownPredicate = filteredPersons.getPredicate();
+        if (shownPredicate == null) {
+            return members;
+        }
+        return members.stream().filter(shownPredicate).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Person> getPersonsByTutGroup(Predicate<TutGroup> tutGroupPredicate) {
+        requireNonNull(tutGroupPredicate);
+        return addressBook.getPersonsByTutGroup(tutGroupPredicate);
+    }
+
+    @Override
+    public List<Person> getPersonsByLabGroup(Predicate<LabGroup> labGroupPredicate) {
+        requireNonNull(labGroupPredicate);
+        return addressBook.getPersonsByLabGroup(labGroupPredicate);
+    }
+
+    @Override
+    public List<Person> getPersonsByFaculty(Predicate<Faculty> facultyPredicate) {
+        requireNonNull(facultyPredicate);
+        return addressBook.getPersonsByFaculty(facultyPredicate);
+    }
+
+    @Override
+    public List<Person> getPersonsByYear(Predicate<Year> yearPredicate) {
+        requireNonNull(yearPredicate);
+        return addressBook.getPersonsByYear(yearPredicate);
+    }
+
+    @Override
+    public Optional<Set<MatNum>> findCandidatesContaining(PersonTextIndex.Field field, String substring) {
+        requireAllNonNull(field, substring);
+        return addressBook.findCandidatesContaining(field, substring);
+    }
+
+    @Override
+    public LabSchema getLabSchema() {
+        return addressBook.getLabSchema();
+    }
+
+    @Override
+    public void setLabMaxScore(int labNumber, int maxScore) {
+        addressBook.setLabMaxScore(labNumber, maxScore);
+
+        // No person changed, so the list must be told to redraw the lab scores it is showing.
+        refilterPersonList();
+    }
+
+    @Override
+    public void setChangeJournal(Delta journal) {
+        addressBook.setChangeJournal(journal);
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getModificationCount();
+    }
+
+    @Override
+    public void applyDelta(Delta delta, boolean isUndo) {
+        requireNonNull(delta);
+        addressBook.applyDelta(delta, isUndo);
+
+        // Every person is shown again, and redrawn, as a lab max score may have changed without any person changing.
+        shownPredicate = PREDICATE_SHOW_ALL_PERSONS;
+        refilterPersonList();
+    }
+
+    @Override
+    public int getHighestLabScore(int labNumber) {
+        return addressBook.getHighestLabScore(labNumber);
+    }
+
+    @Override
+    public int getHighestLabScoreExcluding(int labNumber, Person excludedPerson) {
+        requireNonNull(excludedPerson);
+        return addressBook.getHighestLabScoreExcluding(labNumber, excludedPerson);
+    }
+
     //=========== Filtered Person List Accessors ===================================================
 
     /**
@@ -126,9 +240,20 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        shownPredicate = predicate;
         filteredPersons.setPredicate(predicate);
     }
 
+    /**
+     * Tests every person against the shown predicate again, so that the list redraws them even if none changed.
+     * The shown predicate is wrapped in a new predicate, as setting the same one again does nothing, but the
+     * wrapper is never wrapped itself, so wrappers do not pile up.
+     */
+    private void refilterPersonList() {
+        Predicate<Person> predicate = shownPredicate;
+        filteredPersons.setPredicate(person -> predicate.test(person));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,18 +1,26 @@
 package seedu.tassist.model;
 
-import java.util.ArrayList;
-
-import javafx.collections.ObservableList;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.tassist.commons.core.LogsCenter;
+import seedu.tassist.commons.exceptions.DataLoadingException;
 import seedu.tassist.logic.commands.RedoCommand;
 import seedu.tassist.logic.commands.UndoCommand;
 import seedu.tassist.logic.commands.exceptions.CommandException;
 import seedu.tassist.logic.parser.exceptions.ParseException;
-import seedu.tassist.model.person.Person;
 
 
 
 /**
  * Records all the operations for redo and undo.
+ * Only the most recent history, up to the undo history budget, is kept in memory. Older history is moved to an
+ * {@code UndoHistorySpill} if one is configured, or dropped otherwise, and is read back on a deep undo.
+ * If an {@code UndoJournal} is configured, every command that is saved is also added to it, so that the history
+ * can be restored when the app is started again.
  */
 public class Operations {
 
@@ -23,15 +31,22 @@ public class Operations {
     public static final String COMMAND_IGNORED = "%1$s command was the last command, no changes has occurred";
     private static final String ERROR_MESSAGE = "You have reached the limit of %s";
     private static final String EMPTY_ERROR_MESSAGE = "There is nothing to %s.";
+    private static final String SPILL_ERROR_MESSAGE = "The older undo history could not be read back: %s";
+    private static final Logger logger = LogsCenter.getLogger(Operations.class);
     private static Model model = null;
-    private static ArrayList<Snapshot> pastStates = new ArrayList<>();
-    private static ArrayList<Snapshot> futureStates = new ArrayList<>();
+    private static Deque<Snapshot> pastStates = new ArrayDeque<>();
+    private static Deque<Snapshot> futureStates = new ArrayDeque<>();
     private static Snapshot currentState = null;
+    private static int historyBudget = UserPrefs.DEFAULT_UNDO_HISTORY_BUDGET;
+    private static UndoHistorySpill spill = null;
+    private static UndoJournal journal = null;
 
     private static RecordType lastCommand;
 
     private static boolean isRecorded = false;
 
+    private static boolean isCommitPending = false;
+
     /**
      * Records the undo and redo command state.
      *
@@ -40,29 +55,16 @@ public class Operations {
      */
     public static void recordCurrentCommand(RecordType recordType) throws ParseException {
         assert recordType == RecordType.REDO || recordType == RecordType.UNDO;
-        boolean isEmptyStates = pastStates.isEmpty() && futureStates.isEmpty();
-        if (currentState == null || isEmptyStates) {
+        boolean isEmptyStates = pastStates.isEmpty() && futureStates.isEmpty() && getSpilledCount() == 0;
+        if (isEmptyStates) {
             throw new ParseException(String.format(EMPTY_ERROR_MESSAGE, recordType.toString().toLowerCase()));
         }
 
         lastCommand = recordType;
+        isCommitPending = true;
 
-        Snapshot copyState;
-        if (recordType == RecordType.UNDO) {
-            copyState = pastStates.isEmpty() ? currentState : pastStates.get(pastStates.size() - 1);
-        } else {
-            copyState = futureStates.isEmpty() ? currentState : futureStates.get(futureStates.size() - 1);
-        }
-
-        Snapshot newState = new Snapshot(copyState);
-        ObservableList<Person> personList = model.getAddressBook().getPersonList();
-        newState.setPerson(personList.toArray(new Person[0]));
-
-        if (recordType == RecordType.UNDO) {
-            futureStates.add(newState);
-        } else {
-            pastStates.add(newState);
-        }
+        // Undo and redo replay recorded changes, which must not be recorded again.
+        model.setChangeJournal(null);
     }
 
     /**
@@ -77,11 +79,14 @@ public class Operations {
             return;
         }
 
+        enforceHistoryBudget();
         currentState = new Snapshot(commandTypeString, recordType);
         lastCommand = recordType;
-        pastStates.add(currentState);
+        startJournal(currentState);
+        pastStates.addLast(currentState);
 
         isRecorded = true;
+        isCommitPending = true;
     }
 
     /**
@@ -97,16 +102,24 @@ public class Operations {
             return;
         }
 
+        enforceHistoryBudget();
         currentState = new Snapshot(command, commandTypeString, recordType);
         lastCommand = recordType;
-
-        //Record state data.
-        ObservableList<Person> personList = model.getAddressBook().getPersonList();
-        currentState.setPerson(personList.toArray(new Person[0]));
-
-        pastStates.add(currentState);
+        startJournal(currentState);
+        pastStates.addLast(currentState);
 
         isRecorded = true;
+        isCommitPending = true;
+    }
+
+    /**
+     * Records the changes that the command of {@code state} makes to the model in the delta of {@code state}.
+     * Only the changes are kept, so recording a command costs memory in proportion to what it changes.
+     */
+    private static void startJournal(Snapshot state) {
+        Delta delta = new Delta();
+        state.setDelta(delta);
+        model.setChangeJournal(delta);
     }
 
 
@@ -130,21 +143,42 @@ public class Operations {
 
     /**
      * Removes the last recorded command if it did not run (errors thrown).
+     * Any changes it made before failing are kept with the command before it, so that undoing that command
+     * still restores the state before it.
+     * A command already committed is kept, as the undo journal may hold it.
      */
     public static void removeRecording() {
-        if (!isRecorded) {
+        if (!isCommitPending) {
             return;
         }
-        pastStates.remove(pastStates.size() - 1);
+        isCommitPending = false;
+        if (!isRecorded || pastStates.isEmpty()) {
+            return;
+        }
+        Snapshot removedState = pastStates.removeLast();
+        Delta previousDelta = pastStates.isEmpty() ? null : pastStates.getLast().getDelta();
+        if (previousDelta != null) {
+            previousDelta.append(removedState.getDelta());
+        }
+        model.setChangeJournal(previousDelta);
         isRecorded = false;
     }
 
     /**
      * Updates the current model with the updated model at each execution.
+     * The recorded history is cleared if the model is a different one, as its changes do not apply to the new model.
      *
      * @param modelUpdate The new model.
      */
     public static void update(Model modelUpdate) {
+        if (model != null && model != modelUpdate) {
+            model.setChangeJournal(null);
+            pastStates.clear();
+            futureStates.clear();
+            clearSpill();
+            currentState = null;
+            isRecorded = false;
+        }
         model = modelUpdate;
     }
 
@@ -157,19 +191,22 @@ public class Operations {
      */
     public static String undo(Model model) throws CommandException {
         if (pastStates.isEmpty()) {
-            futureStates.remove(futureStates.size() - 1);
+            readBackSpilledState();
+        }
+        if (pastStates.isEmpty()) {
             throw new CommandException(String.format(ERROR_MESSAGE, "undo"));
         }
 
-        currentState = pastStates.remove(pastStates.size() - 1);
+        currentState = pastStates.removeLast();
+        futureStates.addLast(currentState);
+        boolean isChanged = !currentState.getDelta().isEmpty();
+        runCommand(model, currentState, true);
 
         RecordType currentRecordType = currentState.getRecordType();
-        if (currentRecordType == RecordType.IGNORE) {
+        if (currentRecordType == RecordType.IGNORE && !isChanged) {
             return String.format(COMMAND_IGNORED, currentState.getCommandTypeString());
         }
 
-        runCommand(model, currentState);
-
         return String.format(UndoCommand.MESSAGE_UNDO_SUCCESS,
                 currentState.getCommandTypeString(), currentState.getCommandString());
     }
@@ -183,38 +220,164 @@ public class Operations {
      */
     public static String redo(Model model) throws CommandException {
         if (futureStates.isEmpty()) {
-            pastStates.remove(pastStates.size() - 1);
             throw new CommandException(String.format(ERROR_MESSAGE, "redo"));
         }
 
-        currentState = futureStates.remove(futureStates.size() - 1);
+        currentState = futureStates.removeLast();
+        pastStates.addLast(currentState);
+        boolean isChanged = !currentState.getDelta().isEmpty();
+        runCommand(model, currentState, false);
 
         RecordType currentRecordType = currentState.getRecordType();
-        if (currentRecordType == RecordType.IGNORE) {
+        if (currentRecordType == RecordType.IGNORE && !isChanged) {
             return String.format(COMMAND_IGNORED, currentState.getCommandTypeString());
         }
 
-        runCommand(model, currentState);
-
         return String.format(RedoCommand.MESSAGE_REDO_SUCCESS,
                 currentState.getCommandTypeString(), currentState.getCommandString());
     }
 
     /**
-     * Sets the states to the desired moment.
+     * Sets how much of the undo history is kept in memory, and where older history is moved to.
+     *
+     * @param budget The undo history budget, as the number of persons the history in memory may refer to.
+     * @param historySpill Where older history is moved to, or null if it is dropped.
+     */
+    public static void configureHistory(int budget, UndoHistorySpill historySpill) {
+        assert budget > 0;
+        historyBudget = budget;
+        spill = historySpill;
+        journal = null;
+    }
+
+    /**
+     * Restores the undo history of an earlier session from {@code undoJournal}, and adds every command
+     * that is saved from now on to it.
+     * The commands that can be undone are left in the journal until they are undone.
+     *
+     * @param budget The undo history budget, as the number of persons the history in memory may refer to.
+     * @param undoJournal The journal of the earlier sessions, which also holds the older history of this one.
+     */
+    public static void restoreHistory(int budget, UndoJournal undoJournal) {
+        configureHistory(budget, undoJournal);
+        journal = undoJournal;
+        pastStates.clear();
+        futureStates.clear();
+        try {
+            List<Snapshot> redoHistory = undoJournal.readRedoHistory();
+            futureStates.addAll(redoHistory);
+        } catch (DataLoadingException e) {
+            logger.warning("Redo history could not be restored, dropping the undo history: " + e.getMessage());
+            clearSpill();
+        }
+    }
+
+    /**
+     * Adds the last command to the undo journal, if one is configured, once its changes have been saved.
+     * A command that failed has nothing to add.
+     */
+    public static void commitCurrentCommand() {
+        if (!isCommitPending) {
+            return;
+        }
+        isCommitPending = false;
+        if (journal == null) {
+            return;
+        }
+        try {
+            switch (lastCommand) {
+            case UNDO:
+                journal.appendUndone();
+                break;
+            case REDO:
+                journal.appendRedone();
+                break;
+            default:
+                journal.appendRecorded(currentState);
+                break;
+            }
+        } catch (IOException e) {
+            // The journal no longer matches the saved data, so it cannot be restored from.
+            logger.warning("Undo journal could not be written, dropping the saved undo history: " + e.getMessage());
+            clearSpill();
+        }
+    }
+
+    /**
+     * Moves the oldest history out of memory until the history that can be undone fits the undo history budget.
+     * Only that history counts, as it is the only history moved out; the history that can be redone is cleared
+     * by the next recorded command anyway.
+     * Takes time in proportion to the number of states in memory, which the budget bounds.
+     */
+    private static void enforceHistoryBudget() {
+        int weight = 0;
+        for (Snapshot state : pastStates) {
+            weight += getWeight(state);
+        }
+
+        while (weight > historyBudget && !pastStates.isEmpty()) {
+            Snapshot oldestState = pastStates.removeFirst();
+            weight -= getWeight(oldestState);
+            spillState(oldestState);
+        }
+    }
+
+    private static int getWeight(Snapshot state) {
+        // Every state counts, so that a long run of commands that change nothing is bounded too.
+        return 1 + state.getDelta().getWeight();
+    }
+
+    private static void spillState(Snapshot state) {
+        if (spill == null) {
+            return;
+        }
+        try {
+            spill.push(state);
+        } catch (IOException e) {
+            // History older than the dropped state can no longer be undone in order, so it is dropped too.
+            logger.warning("Undo history could not be spilled, dropping older history: " + e.getMessage());
+            clearSpill();
+        }
+    }
+
+    private static void readBackSpilledState() throws CommandException {
+        if (getSpilledCount() == 0) {
+            return;
+        }
+        try {
+            pastStates.addLast(spill.pop());
+        } catch (DataLoadingException e) {
+            clearSpill();
+            throw new CommandException(String.format(SPILL_ERROR_MESSAGE, e.getMessage()), e);
+        }
+    }
+
+    private static int getSpilledCount() {
+        return spill == null ? 0 : spill.size();
+    }
+
+    private static void clearSpill() {
+        if (spill == null) {
+            return;
+        }
+        try {
+            spill.clear();
+        } catch (IOException e) {
+            logger.warning("Undo history spill could not be cleared: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sets the states to the desired moment, by undoing or redoing the changes recorded in {@code currentState}.
+     * Takes time in proportion to the number of changes, not to the number of persons.
      *
      * @param model The current model.
      * @param currentState The current state.
+     * @param isUndo Whether the changes are undone, instead of redone.
      */
-    public static void runCommand(Model model, Snapshot currentState) {
-        RecordType currentCommand = currentState.getRecordType();
-
-        if (currentCommand == RecordType.RECORD) {
-            model.setAddressBook(new AddressBook());
-            ArrayList<Person> addAll = currentState.getPeople();
-            for (Person person : addAll) {
-                model.addPerson(person);
-            }
+    public static void runCommand(Model model, Snapshot currentState, boolean isUndo) {
+        if (!currentState.getDelta().isEmpty()) {
+            model.applyDelta(currentState.getDelta(), isUndo);
         }
     }
 }
@@ -0,0 +1,112 @@
+package seedu.tassist.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tassist.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.tassist.model.person.MatNum;
+import seedu.tassist.model.person.Person;
+
+/**
+ * Groups persons by a key derived from each person (e.g. their {@code TutGroup}),
+ * so that all members of a group can be found without scanning every person.
+ * Within a group, members are kept in the order in which they joined the group.
+ *
+ * @param <K> Type of the key that persons are grouped by.
+ */
+public class PersonGroupIndex<K> {
+
+    private final Function<Person, K> keyExtractor;
+    private final Map<K, Map<MatNum, Person>> groups = new HashMap<>();
+
+    /**
+     * Creates an empty index that groups persons by {@code keyExtractor}.
+     */
+    public PersonGroupIndex(Function<Person, K> keyExtractor) {
+        requireNonNull(keyExtractor);
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Adds {@code person} to the group of its key.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        groups.computeIfAbsent(keyExtractor.apply(person), unused -> new LinkedHashMap<>())
+                .put(person.getMatNum(), person);
+    }
+
+    /**
+     * Removes {@code person} from the group of its key.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        K key = keyExtractor.apply(person);
+        Map<MatNum, Person> members = groups.get(key);
+        if (members == null) {
+            return;
+        }
+        members.remove(person.getMatNum());
+        if (members.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}.
+     * If both share the same key and identity, {@code editedPerson} keeps the position of {@code target}
+     * within its group.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        K key = keyExtractor.apply(target);
+        if (key.equals(keyExtractor.apply(editedPerson)) && target.isSamePerson(editedPerson)) {
+            groups.get(key).put(editedPerson.getMatNum(), editedPerson);
+            return;
+        }
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        groups.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the members of the group with the given {@code key}.
+     */
+    public List<Person> get(K key) {
+        requireNonNull(key);
+        Map<MatNum, Person> members = groups.get(key);
+        return members == null ? List.of() : new ArrayList<>(members.values());
+    }
+
+    /**
+     * Returns the members of every group whose key satisfies {@code keyPredicate}.
+     * Only the distinct keys are tested, rather than every person.
+     */
+    public List<Person> getMatching(Predicate<K> keyPredicate) {
+        requireNonNull(keyPredicate);
+        List<Person> matchingPersons = new ArrayList<>();
+        for (Map.Entry<K, Map<MatNum, Person>> group : groups.entrySet()) {
+            if (keyPredicate.test(group.getKey())) {
+                matchingPersons.addAll(group.getValue().values());
+            }
+        }
+        return matchingPersons;
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.tassist.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tassist.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.tassist.model.person.MatNum;
+import seedu.tassist.model.person.Person;
+
+/**
+ * Inverted trigram index over the searchable text fields of persons.
+ * For each field, every lower-cased three-character substring of the field's value is mapped to the
+ * matriculation numbers of the persons whose value contains it.
+ * A case-insensitive substring query is answered by intersecting the posting sets of its trigrams.
+ * The result may contain false positives, so callers must still verify each candidate.
+ */
+public class PersonTextIndex {
+
+    /** Length of the substrings that are indexed. Queries shorter than this cannot be narrowed. */
+    public static final int GRAM_LENGTH = 3;
+
+    /**
+     * Text fields of a person that are indexed.
+     */
+    public enum Field {
+        NAME(person -> List.of(person.getName().fullName)),
+        PHONE(person -> List.of(person.getPhone().value)),
+        TELE_HANDLE(person -> List.of(person.getTeleHandle().value)),
+        EMAIL(person -> List.of(person.getEmail().value)),
+        MAT_NUM(person -> List.of(person.getMatNum().value)),
+        TAG(person -> person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()));
+
+        private final Function<Person, List<String>> valuesExtractor;
+
+        Field(Function<Person, List<String>> valuesExtractor) {
+            this.valuesExtractor = valuesExtractor;
+        }
+    }
+
+    private final Map<Field, Map<String, Set<MatNum>>> postings = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonTextIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds the text fields of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Field field : Field.values()) {
+            addValues(field, person.getMatNum(), field.valuesExtractor.apply(person));
+        }
+    }
+
+    /**
+     * Removes the text fields of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Field field : Field.values()) {
+            removeValues(field, person.getMatNum(), field.valuesExtractor.apply(person));
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}.
+     * Fields whose values did not change are left untouched.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        boolean isSameMatNum = target.getMatNum().equals(editedPerson.getMatNum());
+        for (Field field : Field.values()) {
+            List<String> oldValues = field.valuesExtractor.apply(target);
+            List<String> newValues = field.valuesExtractor.apply(editedPerson);
+            if (isSameMatNum && oldValues.equals(newValues)) {
+                continue;
+            }
+            removeValues(field, target.getMatNum(), oldValues);
+            addValues(field, editedPerson.getMatNum(), newValues);
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        requireNonNull(persons);
+        postings.values().forEach(Map::clear);
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Returns the matriculation numbers of the persons whose {@code field} may contain {@code substring},
+     * ignoring case. Every person whose field does contain it is included.
+     * Returns an empty {@code Optional} if {@code substring} is too short to be looked up.
+     */
+    public Optional<Set<MatNum>> findCandidates(Field field, String substring) {
+        requireAllNonNull(field, substring);
+        Set<String> grams = toGrams(substring);
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<String, Set<MatNum>> fieldPostings = postings.get(field);
+        List<Set<MatNum>> postingSets = new ArrayList<>();
+        for (String gram : grams) {
+            Set<MatNum> postingSet = fieldPostings.get(gram);
+            if (postingSet == null) {
+                return Optional.of(new HashSet<>());
+            }
+            postingSets.add(postingSet);
+        }
+
+        postingSets.sort(Comparator.comparingInt(Set::size));
+        Set<MatNum> candidates = new HashSet<>(postingSets.get(0));
+        for (int i = 1; i < postingSets.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postingSets.get(i));
+        }
+        return Optional.of(candidates);
+    }
+
+    private void addValues(Field field, MatNum matNum, List<String> values) {
+        Map<String, Set<MatNum>> fieldPostings = postings.get(field);
+        for (String value : values) {
+            for (String gram : toGrams(value)) {
+                fieldPostings.computeIfAbsent(gram, unused -> new HashSet<>()).add(matNum);
+            }
+        }
+    }
+
+    private void removeValues(Field field, MatNum matNum, List<String> values) {
+        Map<String, Set<MatNum>> fieldPostings = postings.get(field);
+        for (String value : values) {
+            for (String gram : toGrams(value)) {
+                Set<MatNum> postingSet = fieldPostings.get(gram);
+                if (postingSet == null) {
+                    continue;
+                }
+                postingSet.remove(matNum);
+                if (postingSet.isEmpty()) {
+                    fieldPostings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct lower-cased trigrams of {@code text}.
+     */
+    private static Set<String> toGrams(String text) {
+        String lowerCaseText = text.toLowerCase();
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseText.length(); i++) {
+            grams.add(lowerCaseText.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.tassist.model;
 import java.nio.file.Path;
 
 import seedu.tassist.commons.core.GuiSettings;
+import seedu.tassist.commons.core.SaveDurability;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,20 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns how much of the undo history is kept in memory, as the number of persons it may refer to.
+     */
+    int getUndoHistoryBudget();
+
+    /**
+     * Returns how soon changes to the address book are written to the data file.
+     */
+    SaveDurability getSaveDurability();
+
+    /**
+     * Returns how long, in milliseconds, changes are gathered before they are written together
+     * when saving by group commit.
+     */
+    long getGroupCommitInterval();
+
 }
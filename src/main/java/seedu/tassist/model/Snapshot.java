@@ -1,18 +1,14 @@
 package seedu.tassist.model;
 
-import java.util.ArrayList;
-
-import seedu.tassist.model.person.Person;
-
 /**
- * Captures a frame of the command.
+ * Captures a frame of the command, with the changes it made.
  */
 public class Snapshot {
 
     private String commandString = "";
     private String commandTypeString = "";
     private Operations.RecordType recordType;
-    private ArrayList<Person> people = new ArrayList<>();
+    private Delta delta = new Delta();
 
 
     /**
@@ -88,28 +84,23 @@ public class Snapshot {
     }
 
     /**
-     * Sets the people involved in the command.
+     * Sets the changes made by the command.
      *
-     * @param people The people involved.
+     * @param delta The changes made by the command.
      */
-    public void setPerson(Person... people) {
-        for (Person person : people) {
-            this.people.add(person);
-        }
+    public void setDelta(Delta delta) {
+        this.delta = delta;
     }
 
-
     /**
-     * Gets the entire list of people involved in the command.
+     * Gets the changes made by the command.
      *
-     * @return The entire list of people.
+     * @return The changes made by the command.
      */
-    public ArrayList<Person> getPeople() {
-        return people;
+    public Delta getDelta() {
+        return delta;
     }
 
-
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -123,7 +114,6 @@ public class Snapshot {
         Snapshot o = (Snapshot) other;
         return this.recordType.equals(o.recordType)
                 && this.commandString.equals(o.commandString)
-                && this.commandTypeString.equals(o.commandTypeString)
-                && this.people.equals(o.people);
+                && this.commandTypeString.equals(o.commandTypeString);
     }
 }
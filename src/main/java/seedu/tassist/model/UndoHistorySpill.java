@@ -0,0 +1,37 @@
+package seedu.tassist.model;
+
+import java.io.IOException;
+
+import seedu.tassist.commons.exceptions.DataLoadingException;
+
+/**
+ * Holds the oldest undo history outside of memory, as a stack of {@code Snapshot}s.
+ */
+public interface UndoHistorySpill {
+
+    /**
+     * Returns the number of snapshots held.
+     */
+    int size();
+
+    /**
+     * Saves {@code snapshot} above every snapshot held, and lets go of it in memory.
+     *
+     * @throws IOException if there was any problem writing to the spill.
+     */
+    void push(Snapshot snapshot) throws IOException;
+
+    /**
+     * Removes and returns the last snapshot pushed.
+     *
+     * @throws DataLoadingException if the snapshot could not be read back.
+     */
+    Snapshot pop() throws DataLoadingException;
+
+    /**
+     * Removes every snapshot held.
+     *
+     * @throws IOException if there was any problem writing to the spill.
+     */
+    void clear() throws IOException;
+}
@@ -0,0 +1,42 @@
+package seedu.tassist.model;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.tassist.commons.exceptions.DataLoadingException;
+
+/**
+ * Keeps the undo history across sessions, as a journal of the commands that were recorded, undone and redone.
+ * As an {@code UndoHistorySpill}, it holds the recovered history and the oldest history of this session,
+ * which are only read back from the journal when they are undone.
+ */
+public interface UndoJournal extends UndoHistorySpill {
+
+    /**
+     * Adds to the journal that the command of {@code snapshot} was recorded, with the changes it made.
+     *
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void appendRecorded(Snapshot snapshot) throws IOException;
+
+    /**
+     * Adds to the journal that the last recorded or redone command was undone.
+     *
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void appendUndone() throws IOException;
+
+    /**
+     * Adds to the journal that the last undone command was redone.
+     *
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void appendRedone() throws IOException;
+
+    /**
+     * Returns the commands that can be redone at the end of the journal, with the next one to redo last.
+     *
+     * @throws DataLoadingException if the commands could not be read back.
+     */
+    List<Snapshot> readRedoHistory() throws DataLoadingException;
+}
@@ -1,20 +1,30 @@
 package seedu.tassist.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.tassist.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.tassist.commons.core.GuiSettings;
+import seedu.tassist.commons.core.SaveDurability;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_BUDGET = 10000;
+    public static final String MESSAGE_UNDO_HISTORY_BUDGET_CONSTRAINTS = "Undo history budget must be positive.";
+    public static final long DEFAULT_GROUP_COMMIT_INTERVAL = 200;
+    public static final String MESSAGE_GROUP_COMMIT_INTERVAL_CONSTRAINTS = "Group commit interval must be positive.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data", "addressbook.json");
+    private int undoHistoryBudget = DEFAULT_UNDO_HISTORY_BUDGET;
+    private SaveDurability saveDurability = SaveDurability.GROUP_COMMIT;
+    private long groupCommitInterval = DEFAULT_GROUP_COMMIT_INTERVAL;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +48,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryBudget(newUserPrefs.getUndoHistoryBudget());
+        setSaveDurability(newUserPrefs.getSaveDurability());
+        setGroupCommitInterval(newUserPrefs.getGroupCommitInterval());
     }
 
     public GuiSettings getGuiSettings() {
@@ -58,6 +71,33 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoHistoryBudget() {
+        return undoHistoryBudget;
+    }
+
+    public void setUndoHistoryBudget(int undoHistoryBudget) {
+        checkArgument(undoHistoryBudget > 0, MESSAGE_UNDO_HISTORY_BUDGET_CONSTRAINTS);
+        this.undoHistoryBudget = undoHistoryBudget;
+    }
+
+    public SaveDurability getSaveDurability() {
+        return saveDurability;
+    }
+
+    public void setSaveDurability(SaveDurability saveDurability) {
+        requireNonNull(saveDurability);
+        this.saveDurability = saveDurability;
+    }
+
+    public long getGroupCommitInterval() {
+        return groupCommitInterval;
+    }
+
+    public void setGroupCommitInterval(long groupCommitInterval) {
+        checkArgument(groupCommitInterval > 0, MESSAGE_GROUP_COMMIT_INTERVAL_CONSTRAINTS);
+        this.groupCommitInterval = groupCommitInterval;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -71,12 +111,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryBudget == otherUserPrefs.undoHistoryBudget
+                && saveDurability == otherUserPrefs.saveDurability
+                && groupCommitInterval == otherUserPrefs.groupCommitInterval;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryBudget, saveDurability,
+                groupCommitInterval);
     }
 
     @Override
@@ -84,6 +128,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history budget : " + undoHistoryBudget);
+        sb.append("\nSave durability : " + saveDurability);
+        sb.append("\nGroup commit interval (ms) : " + groupCommitInterval);
         return sb.toString();
     }
 
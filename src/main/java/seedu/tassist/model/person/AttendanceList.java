@@ -6,12 +6,12 @@ import static seedu.tassist.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.tassist.model.person.Attendance.isValidAttendance;
 import static seedu.tassist.model.person.Attendance.isValidWeek;
 
-import java.util.ArrayList;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
- * Represents a list of Attendance instances.
+ * Represents the attendance of a person for every tutorial week.
+ * Guarantees: immutable.
  */
 public class AttendanceList {
     public static final String MESSAGE_CONSTRAINTS =
@@ -27,16 +27,29 @@ public class AttendanceList {
             + "Additional Restriction: A person WITHOUT a tutorial group must have an empty attendance string\n"
             + "while a person WITH a tutorial group must have a 13-digit attendance string.\n";
     public static final String DEFAULT_ATTENDANCE_STRING = "3300000000000";
-    public static final AttendanceList EMPTY_ATTENDANCE_LIST = new AttendanceList();
+    public static final String MESSAGE_EMPTY_ATTENDANCE_LIST =
+            "A person without a tutorial group has no attendance to get or set.";
+    public static final AttendanceList EMPTY_ATTENDANCE_LIST = new AttendanceList(AttendanceList.EMPTY_BITS);
 
-    private ArrayList<Attendance> attendanceList;
+    private static final int WEEK_COUNT = 13;
+    private static final int BITS_PER_WEEK = 2;
+    private static final int WEEK_MASK = (1 << BITS_PER_WEEK) - 1;
+
+    /** Bits of the Empty AttendanceList. No valid attendance sets the highest bit, so this never clashes. */
+    private static final int EMPTY_BITS = -1;
+
+    /**
+     * Attendance of every week, packed {@value #BITS_PER_WEEK} bits per week,
+     * with week 1 in the lowest bits.
+     */
+    private final int attendanceBits;
 
     /**
      * Instantiates the AttendanceList instance,
-     * to represent a list of Attendance for 13 weeks.
+     * to represent the attendance for 13 weeks packed into {@code attendanceBits}.
      */
-    private AttendanceList() {
-        this.attendanceList = new ArrayList<>();
+    private AttendanceList(int attendanceBits) {
+        this.attendanceBits = attendanceBits;
     }
 
     /**
@@ -47,7 +60,16 @@ public class AttendanceList {
      */
     public static boolean isValidNonEmptyAttendanceString(String attendanceString) {
         requireNonNull(attendanceString);
-        return attendanceString.matches("^[0123]{13}$");
+        if (attendanceString.length() != WEEK_COUNT) {
+            return false;
+        }
+        for (int i = 0; i < WEEK_COUNT; i++) {
+            char status = attendanceString.charAt(i);
+            if (status < '0' || status > '3') {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -85,13 +107,34 @@ public class AttendanceList {
             return EMPTY_ATTENDANCE_LIST;
         }
 
-        AttendanceList attendanceList = new AttendanceList();
-        for (int i = 0; i < 13; i++) {
-            attendanceList.attendanceList.add(
-                    new Attendance(i + 1,
-                            Integer.parseInt(attendanceString.charAt(i) + "")));
+        int attendanceBits = 0;
+        for (int i = 0; i < WEEK_COUNT; i++) {
+            attendanceBits |= (attendanceString.charAt(i) - '0') << (i * BITS_PER_WEEK);
         }
-        return attendanceList;
+        return new AttendanceList(attendanceBits);
+    }
+
+    /**
+     * Returns whether {@code attendanceBits} is the packed attendance of a valid AttendanceList.
+     */
+    public static boolean isValidAttendanceBits(int attendanceBits) {
+        return attendanceBits == EMPTY_BITS || attendanceBits >>> (WEEK_COUNT * BITS_PER_WEEK) == 0;
+    }
+
+    /**
+     * Returns the AttendanceList of the packed attendance {@code attendanceBits},
+     * as returned by {@link #toAttendanceBits()}.
+     */
+    public static AttendanceList fromAttendanceBits(int attendanceBits) {
+        checkArgument(isValidAttendanceBits(attendanceBits), ATTENDANCE_STRING_MESSAGE_CONSTRAINTS);
+        return attendanceBits == EMPTY_BITS ? EMPTY_ATTENDANCE_LIST : new AttendanceList(attendanceBits);
+    }
+
+    /**
+     * Returns the attendance of every week packed into an int, with week 1 in the lowest bits.
+     */
+    public int toAttendanceBits() {
+        return attendanceBits;
     }
 
     /**
@@ -102,7 +145,8 @@ public class AttendanceList {
      */
     public int getAttendanceForWeek(int week) {
         checkArgument(isValidWeek(week), MESSAGE_CONSTRAINTS);
-        return this.attendanceList.get(week - 1).getAttendance();
+        checkArgument(!isEmpty(), MESSAGE_EMPTY_ATTENDANCE_LIST);
+        return (attendanceBits >>> shiftForWeek(week)) & WEEK_MASK;
     }
 
     /**
@@ -114,11 +158,14 @@ public class AttendanceList {
     public AttendanceList setAttendanceForWeek(int week, int attendance) {
         checkArgument(isValidWeek(week), MESSAGE_CONSTRAINTS);
         checkArgument(isValidAttendance(attendance), MESSAGE_CONSTRAINTS);
-        String oldAttendanceString = this.toString();
-        String newAttendanceString =
-                oldAttendanceString.substring(0, week - 1) + String.valueOf(attendance)
-                + oldAttendanceString.substring(week);
-        return AttendanceList.generateAttendanceList(newAttendanceString);
+        checkArgument(!isEmpty(), MESSAGE_EMPTY_ATTENDANCE_LIST);
+        int shift = shiftForWeek(week);
+        int newAttendanceBits = (attendanceBits & ~(WEEK_MASK << shift)) | (attendance << shift);
+        return newAttendanceBits == attendanceBits ? this : new AttendanceList(newAttendanceBits);
+    }
+
+    private static int shiftForWeek(int week) {
+        return (week - 1) * BITS_PER_WEEK;
     }
 
     /**
@@ -127,7 +174,11 @@ public class AttendanceList {
      * @return Stream of Attendance objects in the Attendance List.
      */
     public Stream<Attendance> getAttendanceStream() {
-        return this.attendanceList.stream();
+        if (isEmpty()) {
+            return Stream.empty();
+        }
+        return IntStream.rangeClosed(1, WEEK_COUNT)
+                .mapToObj(week -> new Attendance(week, getAttendanceForWeek(week)));
     }
 
     /**
@@ -136,14 +187,22 @@ public class AttendanceList {
      * @return Boolean representing whether the current instance is the Empty AttendanceList.
      */
     public boolean isEmpty() {
-        return this.equals(EMPTY_ATTENDANCE_LIST);
+        return attendanceBits == EMPTY_BITS;
     }
 
+    /**
+     * Returns the attendance string of this list, as accepted by {@link #generateAttendanceList(String)}.
+     */
     @Override
     public String toString() {
-        return attendanceList.stream()
-                .map(attendance -> attendance.toString())
-                .collect(Collectors.joining(""));
+        if (isEmpty()) {
+            return "";
+        }
+        char[] attendanceString = new char[WEEK_COUNT];
+        for (int i = 0; i < WEEK_COUNT; i++) {
+            attendanceString[i] = (char) ('0' + ((attendanceBits >>> (i * BITS_PER_WEEK)) & WEEK_MASK));
+        }
+        return new String(attendanceString);
     }
 
     @Override
@@ -158,6 +217,11 @@ public class AttendanceList {
         }
 
         AttendanceList otherAttendanceList = (AttendanceList) other;
-        return this.toString().equals(otherAttendanceList.toString());
+        return attendanceBits == otherAttendanceList.attendanceBits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(attendanceBits);
     }
 }
@@ -0,0 +1,117 @@
+package seedu.tassist.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tassist.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * Holds the number of labs and the max score of each lab, shared by every {@code LabScoreList}
+ * of an address book.
+ * Changing a max score here changes it for every student at once.
+ */
+public class LabSchema {
+    public static final int DEFAULT_LAB_COUNT = 4;
+    public static final int DEFAULT_MAX_SCORE = 25;
+    public static final int LIMIT_MAX_SCORE = 100;
+    public static final String MESSAGE_CONSTRAINTS = String.format(
+            "Max lab scores must be between 0 and %d, and lab numbers between 1 and the number of labs.",
+            LIMIT_MAX_SCORE);
+
+    private int[] maxScores;
+
+    /**
+     * Creates a schema with {@value #DEFAULT_LAB_COUNT} labs, each with a max score of
+     * {@value #DEFAULT_MAX_SCORE}.
+     */
+    public LabSchema() {
+        maxScores = new int[DEFAULT_LAB_COUNT];
+        Arrays.fill(maxScores, DEFAULT_MAX_SCORE);
+    }
+
+    /**
+     * Creates a schema with one lab for each of the given {@code maxScores}.
+     */
+    public LabSchema(int... maxScores) {
+        requireNonNull(maxScores);
+        for (int maxScore : maxScores) {
+            checkArgument(isValidMaxScore(maxScore), MESSAGE_CONSTRAINTS);
+        }
+        this.maxScores = maxScores.clone();
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     */
+    public LabSchema(LabSchema toBeCopied) {
+        requireNonNull(toBeCopied);
+        maxScores = toBeCopied.maxScores.clone();
+    }
+
+    /**
+     * Returns true if {@code maxScore} is within the allowed range of max scores.
+     */
+    public static boolean isValidMaxScore(int maxScore) {
+        return maxScore >= 0 && maxScore <= LIMIT_MAX_SCORE;
+    }
+
+    /**
+     * Returns true if {@code labNumber} refers to a lab of this schema.
+     */
+    public boolean isValidLabNumber(int labNumber) {
+        return labNumber >= 1 && labNumber <= maxScores.length;
+    }
+
+    public int getLabCount() {
+        return maxScores.length;
+    }
+
+    /**
+     * Returns the max score of the lab with the given 1-based {@code labNumber}.
+     */
+    public int getMaxScore(int labNumber) {
+        checkArgument(isValidLabNumber(labNumber), MESSAGE_CONSTRAINTS);
+        return maxScores[labNumber - 1];
+    }
+
+    /**
+     * Sets the max score of the lab with the given 1-based {@code labNumber}.
+     * Existing scores are not checked against the new max score.
+     */
+    public void setMaxScore(int labNumber, int maxScore) {
+        checkArgument(isValidLabNumber(labNumber) && isValidMaxScore(maxScore), MESSAGE_CONSTRAINTS);
+        maxScores[labNumber - 1] = maxScore;
+    }
+
+    /**
+     * Replaces the lab count and max scores of this schema with those of {@code newData}.
+     */
+    public void resetData(LabSchema newData) {
+        requireNonNull(newData);
+        maxScores = newData.maxScores.clone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof LabSchema)) {
+            return false;
+        }
+
+        LabSchema otherLabSchema = (LabSchema) other;
+        return Arrays.equals(maxScores, otherLabSchema.maxScores);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(maxScores);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(maxScores);
+    }
+}
@@ -1,8 +1,5 @@
 package seedu.tassist.model.person;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import seedu.tassist.logic.commands.UpdateLabScoreCommand;
 import seedu.tassist.logic.commands.exceptions.CommandException;
 
@@ -10,11 +7,10 @@ import seedu.tassist.logic.commands.exceptions.CommandException;
  * Holds the score and max score for a lab.
  */
 public class LabScore {
-    private static final int DEFAULT_SCORE = -1;
-    private static ArrayList<Integer> allMaxScores = new ArrayList<>(List.of(25, 25, 25, 25));
+    public static final int DEFAULT_SCORE = -1;
 
     private int labScore = DEFAULT_SCORE;
-    private int maxLabScore = 25; // Default max score is 25
+    private int maxLabScore = LabSchema.DEFAULT_MAX_SCORE;
 
     /**
      * Creates a default LabScore object.
@@ -23,16 +19,6 @@ public class LabScore {
         labScore = DEFAULT_SCORE;
     }
 
-    /**
-     * Creates a default LabScore object with standardized lab score.
-     *
-     * @param labNumber The lab number to get the maxScore.
-     */
-    public LabScore(int labNumber) {
-        labScore = DEFAULT_SCORE;
-        maxLabScore = allMaxScores.get(labNumber);
-    }
-
     /**
      * Creates a LabScore object with the provided parameters.
      *
@@ -87,25 +73,21 @@ public class LabScore {
     }
 
     /**
-     * Updates the standardized max lab score for the updated lab.
-     * This function is only called when it has successfully updated the maxLabScore for one LabScore object.
+     * Gets the score of this lab, or {@code DEFAULT_SCORE} if it has not been graded.
      *
-     * @param labNumber The lab that the maxLabScore is associated with.
-     * @param maxLabScore The updated maxLabScore.
+     * @return The lab score.
      */
-    public static void updateMaxLabScore(int labNumber, int maxLabScore) {
-        assert maxLabScore >= 0;
-        allMaxScores.set(labNumber, maxLabScore);
+    public int getLabScore() {
+        return labScore;
     }
 
     /**
-     * Gets the maxLabScore of the provided lab number.
+     * Gets the max score of this lab.
      *
-     * @param labNumber The lab to get the maxLabScore of.
-     * @return The maxLabScore.
+     * @return The max lab score.
      */
-    public static int getMaxLabScore(int labNumber) {
-        return allMaxScores.get(labNumber);
+    public int getMaxLabScore() {
+        return maxLabScore;
     }
 
     /**
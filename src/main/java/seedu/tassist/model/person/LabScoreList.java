@@ -1,15 +1,17 @@
 package seedu.tassist.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 
 import seedu.tassist.logic.commands.UpdateLabScoreCommand;
 import seedu.tassist.logic.commands.exceptions.CommandException;
 
 /**
- * Handles the list of LabScore objects.
+ * Handles the lab scores of a person.
+ * The max score of each lab is read from the {@code LabSchema} that the list is bound to,
+ * which is shared by every person of an address book.
  */
 public class LabScoreList {
     public static final String INVALID_LAB_SCORE = "Lab score needs to be a number";
@@ -17,132 +19,182 @@ public class LabScoreList {
     public static final String EXCEED_MAX_LAB_SCORE_LIMIT = "Maximum limit of lab score is 100";
     public static final String INVALID_LAB_MAX_SCORE =
             "Person %d has score higher than the max lab score (%d) that you wish to set.";
-    private static int labTotal = 4;
-    public static final String LAB_NUMBER_CONSTRAINT = String.format(
-            "Lab number must be provided and must be between 1 and %d", labTotal);
-    private static boolean isInitialization = true;
-    private static int limitMaxLabScore = 100;
-    private static boolean isUpdatingBothScores = true;
-    private ArrayList<LabScore> labScoreList = new ArrayList<>();
+    public static final String LAB_NUMBER_CONSTRAINT = "Lab number must be provided and must be a positive number";
+    private final int[] scores;
+    private final LabSchema labSchema;
 
     /**
-     * Creates a default LabScoreList object.
+     * Creates a default LabScoreList object, with no lab graded yet.
      */
     public LabScoreList() {
-        for (int i = 0; i < labTotal; i++) {
-            labScoreList.add(new LabScore(i));
-        }
+        this(new LabSchema());
+    }
+
+    /**
+     * Creates a LabScoreList object with no lab graded yet, bound to {@code labSchema}.
+     *
+     * @param labSchema The schema to read the lab count and max scores from.
+     */
+    public LabScoreList(LabSchema labSchema) {
+        requireNonNull(labSchema);
+        this.labSchema = labSchema;
+        scores = new int[labSchema.getLabCount()];
+        Arrays.fill(scores, LabScore.DEFAULT_SCORE);
     }
 
     /**
      * Creates a LabScoreList object using the save file values.
+     * The max scores in {@code labs} make up the schema of the created list.
      *
      * @param labs the array of values to initialize the list with.
      */
     public LabScoreList(String[] labs) {
+        scores = new int[labs.length];
+        int[] maxScores = new int[labs.length];
         for (int i = 0; i < labs.length; i++) {
             String[] scoreSplit = labs[i].split("/");
-            Integer labScore = scoreSplit[0].equals("-") ? -1 : Integer.parseInt(scoreSplit[0]);
-            Integer maxLabScore = Integer.parseInt(scoreSplit[1]);
-            labScoreList.add(new LabScore(labScore, maxLabScore));
-            LabScore.updateMaxLabScore(i, maxLabScore);
+            scores[i] = scoreSplit[0].equals("-") ? LabScore.DEFAULT_SCORE : Integer.parseInt(scoreSplit[0]);
+            maxScores[i] = Integer.parseInt(scoreSplit[1]);
         }
+        labSchema = new LabSchema(maxScores);
     }
 
     /**
-     * Creates a LabScoreList object using the save file values.
+     * Creates a LabScoreList object from the given lab scores.
+     * The max scores of {@code labs} make up the schema of the created list.
      *
      * @param labs The array of values to initialize the list with.
      */
     public LabScoreList(LabScore[] labs) {
-        Collections.addAll(labScoreList, labs);
+        scores = new int[labs.length];
+        int[] maxScores = new int[labs.length];
+        for (int i = 0; i < labs.length; i++) {
+            scores[i] = labs[i].getLabScore();
+            maxScores[i] = labs[i].getMaxLabScore();
+        }
+        labSchema = new LabSchema(maxScores);
+    }
+
+    private LabScoreList(int[] scores, LabSchema labSchema) {
+        this.scores = scores;
+        this.labSchema = labSchema;
     }
 
     /**
-     * Updates the specified lab with the updated score.
+     * Returns a copy of this list with the same scores, bound to {@code labSchema}.
+     * Labs beyond the lab count of {@code labSchema} are dropped, and new labs are not graded yet.
      *
-     * @param labNumber The LabScore object to update.
-     * @param labScore The updated score for the lab.
-     * @return Updated {@code LabScoreList}.
-     * @throws CommandException If lab number is invalid.
+     * @param labSchema The schema to bind the copy to.
+     * @return The bound {@code LabScoreList}.
      */
-    public LabScoreList updateLabScore(int labNumber, int labScore) throws CommandException {
-        LabScore[] copiedScores = getLabScoresWhenValid(labNumber);
-        copiedScores[labNumber - 1] = copiedScores[labNumber - 1].updateLabScore(labScore);
-        return new LabScoreList(copiedScores);
+    public LabScoreList bindTo(LabSchema labSchema) {
+        requireNonNull(labSchema);
+        if (labSchema == this.labSchema && scores.length == labSchema.getLabCount()) {
+            return this;
+        }
+        int[] boundScores = Arrays.copyOf(scores, labSchema.getLabCount());
+        for (int i = scores.length; i < boundScores.length; i++) {
+            boundScores[i] = LabScore.DEFAULT_SCORE;
+        }
+        return new LabScoreList(boundScores, labSchema);
     }
 
     /**
-     * Updates the specified lab with the updated max score.
+     * Gets a copy of the schema this list reads its lab count and max scores from.
+     * The schema itself is shared by every person of an address book, and is only changed through it.
      *
-     * @param labNumber The LabScore object to update.
-     * @param maxLabScore The updated max score for the lab.
-     * @return Updated {@code LabScoreList}.
-     * @throws CommandException If lab number is invalid.
+     * @return A copy of the lab schema.
+     */
+    public LabSchema getLabSchema() {
+        return new LabSchema(labSchema);
+    }
+
+    /**
+     * Gets the max score of the given lab.
+     *
+     * @param labNumber The lab to get the max score of.
+     * @return The max score of the lab.
      */
-    public LabScoreList updateMaxLabScore(int labNumber, int maxLabScore, List<Person> allContacts)
-            throws CommandException {
-        validMaxLabScore(!isUpdatingBothScores, labNumber, maxLabScore, allContacts);
+    public int getMaxScore(int labNumber) {
+        return labSchema.getMaxScore(labNumber);
+    }
 
-        LabScore[] copiedScores = getLabScoresWhenValid(labNumber);
-        copiedScores[labNumber - 1] = copiedScores[labNumber - 1].updateMaxLabScore(maxLabScore);
-        LabScore.updateMaxLabScore(labNumber - 1, maxLabScore);
+    /**
+     * Gets the number of labs in this list.
+     *
+     * @return The number of labs.
+     */
+    public int getLabCount() {
+        return scores.length;
+    }
 
-        return new LabScoreList(copiedScores);
+    /**
+     * Gets the score of the given lab, or {@code LabScore.DEFAULT_SCORE} if it has not been graded.
+     *
+     * @param labNumber The lab to get the score of.
+     * @return The score of the lab.
+     */
+    public int getScore(int labNumber) {
+        return scores[labNumber - 1];
     }
 
     /**
-     * Updates the specified lab with the updated score and max score.
+     * Updates the specified lab with the updated score.
      *
-     * @param labNumber The lab of the LabScore object to update.
+     * @param labNumber The LabScore object to update.
      * @param labScore The updated score for the lab.
-     * @param maxLabScore The updated max score for the lab.
      * @return Updated {@code LabScoreList}.
-     * @throws CommandException When lab number is invalid.
+     * @throws CommandException If lab number or score is invalid.
      */
-    public LabScoreList updateBothLabScore(int labNumber, int labScore, int maxLabScore, List<Person> allContacts)
-            throws CommandException {
-        validMaxLabScore(isUpdatingBothScores, labNumber, maxLabScore, allContacts);
-
-        LabScore[] copiedScores = getLabScoresWhenValid(labNumber);
-        copiedScores[labNumber - 1] = copiedScores[labNumber - 1].updateBothLabScore(labScore, maxLabScore);
-        LabScore.updateMaxLabScore(labNumber - 1, maxLabScore);
-
-        return new LabScoreList(copiedScores);
+    public LabScoreList updateLabScore(int labNumber, int labScore) throws CommandException {
+        checkLabNumber(labNumber);
+        LabScore updatedLabScore = getLabScore(labNumber).updateLabScore(labScore);
+        return withScore(labNumber, updatedLabScore.getLabScore());
     }
 
     /**
-     * Refreshes the {@code maxLabScore} for all the labs involved.
+     * Updates the specified lab with the updated score, to be valid under the updated max score.
+     * The max score itself belongs to the {@code LabSchema}, and must be updated there.
      *
-     * @param labNumber The LabScore object to update.
+     * @param labNumber The lab of the LabScore object to update.
+     * @param labScore The updated score for the lab.
      * @param maxLabScore The updated max score for the lab.
      * @return Updated {@code LabScoreList}.
+     * @throws CommandException When lab number or either score is invalid.
      */
-    public LabScoreList refreshLabScore(int labNumber, int maxLabScore) {
-        LabScore[] copiedScores = Arrays.copyOf(labScoreList.toArray(new LabScore[labTotal]), labTotal);
-        copiedScores[labNumber - 1] = copiedScores[labNumber - 1].refreshMaxScore(maxLabScore);
+    public LabScoreList updateBothLabScore(int labNumber, int labScore, int maxLabScore) throws CommandException {
+        checkLabNumber(labNumber);
+        LabScore updatedLabScore = getLabScore(labNumber).updateBothLabScore(labScore, maxLabScore);
+        return withScore(labNumber, updatedLabScore.getLabScore());
+    }
+
+    private LabScoreList withScore(int labNumber, int labScore) {
+        int[] updatedScores = scores.clone();
+        updatedScores[labNumber - 1] = labScore;
+        return new LabScoreList(updatedScores, labSchema);
+    }
 
-        return new LabScoreList(copiedScores);
+    private LabScore getLabScore(int labNumber) {
+        return new LabScore(scores[labNumber - 1], labSchema.getMaxScore(labNumber));
     }
 
     /**
-     * Copies the list of lab scores.
+     * Checks that the lab number refers to a lab of the schema.
      *
-     * @param labNumber The lab of the LabScore object to update.
-     * @return The copied list of lab scores.
+     * @param labNumber The lab number to check.
      * @throws CommandException If lab number is invalid.
      */
-    public LabScore[] getLabScoresWhenValid(int labNumber) throws CommandException {
-        if (labNumber < 1 || labNumber > labTotal) {
+    private void checkLabNumber(int labNumber) throws CommandException {
+        if (!labSchema.isValidLabNumber(labNumber)) {
             throw new CommandException(String.format(
-                    UpdateLabScoreCommand.MESSAGE_INVALID_LAB_NUMBER, labTotal));
+                    UpdateLabScoreCommand.MESSAGE_INVALID_LAB_NUMBER, labSchema.getLabCount()));
         }
-
-        return Arrays.copyOf(labScoreList.toArray(new LabScore[labTotal]), labTotal);
     }
 
     /**
-     * Checks if the lab number is valid.
+     * Checks if the lab number is a valid lab number of some schema, that is, a positive number.
+     * Whether the lab exists depends on the lab schema of the address book, which is checked
+     * when the lab number is used.
      *
      * @param labNumber The string of the lab number to verify.
      * @return A boolean representing if the lab number is valid.
@@ -156,39 +208,7 @@ public class LabScoreList {
             return false;
         }
 
-        return labNo > 0 && labNo <= labTotal;
-    }
-
-    /**
-     * Checks if the provided max score is valid.
-     *
-     * @param isUpdatingBoth Whether the function that calls this is updating both max score and score.
-     * @param labNumber The lab of the score to check.
-     * @param maxLabScore The score that is being checked.
-     * @param allContacts The list of people that needs to be checked.
-     * @throws CommandException If {@code maxLabScore} is not valid.
-     */
-    private void validMaxLabScore(boolean isUpdatingBoth, int labNumber, int maxLabScore, List<Person> allContacts)
-            throws CommandException {
-        if (maxLabScore < 0) {
-            throw new CommandException(UpdateLabScoreCommand.MESSAGE_INVALID_NEGATIVE_SCORE);
-        }
-
-        if (maxLabScore > limitMaxLabScore) {
-            throw new CommandException(EXCEED_MAX_LAB_SCORE_LIMIT);
-        }
-
-        for (int i = 0; i < allContacts.size(); i++) {
-            LabScoreList checkList = allContacts.get(i).getLabScoreList();
-            if (checkList == this && isUpdatingBoth) {
-                continue;
-            }
-
-            boolean validMaxScore = checkList.labScoreList.get(labNumber - 1).testValidMaxScore(maxLabScore);
-            if (!validMaxScore) {
-                throw new CommandException(String.format(INVALID_LAB_MAX_SCORE, i + 1, maxLabScore));
-            }
-        }
+        return labNo > 0;
     }
 
     /**
@@ -197,7 +217,11 @@ public class LabScoreList {
      * @return The list of LabScore objects.
      */
     public ArrayList<LabScore> getLabScores() {
-        return labScoreList;
+        ArrayList<LabScore> labScores = new ArrayList<>(scores.length);
+        for (int labNumber = 1; labNumber <= scores.length; labNumber++) {
+            labScores.add(getLabScore(labNumber));
+        }
+        return labScores;
     }
 
     /**
@@ -227,15 +251,12 @@ public class LabScoreList {
 
         // Validate individual lab string
         for (int i = 0; i < total; i++) {
-            boolean isLabValid = isValidLabSaveString(labs[i], i);
+            boolean isLabValid = isValidLabSaveString(labs[i]);
             if (!isLabValid) {
                 return false;
             }
         }
 
-        if (isInitialization) {
-            isInitialization = false;
-        }
         return true;
     }
 
@@ -245,7 +266,7 @@ public class LabScoreList {
      * @param labString The string to validate if it is correct.
      * @return A boolean showing if the string is valid.
      */
-    private static boolean isValidLabSaveString(String labString, int labNumber) {
+    private static boolean isValidLabSaveString(String labString) {
         String[] scoreSplit = labString.split("/");
         if (scoreSplit.length != 2) {
             return false;
@@ -256,16 +277,10 @@ public class LabScoreList {
                 Integer.parseInt(scoreSplit[0]);
             }
             int fileLabMaxScore = Integer.parseInt(scoreSplit[1]);
-
-            if (!isInitialization) {
-                return fileLabMaxScore == LabScore.getMaxLabScore(labNumber);
-            }
-
+            return LabSchema.isValidMaxScore(fileLabMaxScore);
         } catch (NumberFormatException e) {
             return false;
         }
-
-        return true;
     }
 
     /**
@@ -284,10 +299,10 @@ public class LabScoreList {
     @Override
     public String toString() {
         StringBuilder labScoreListString = new StringBuilder();
-        labScoreListString.append(String.format("%d.", labTotal));
-        for (int i = 0; i < labScoreList.size(); i++) {
-            labScoreListString.append(labScoreList.get(i).toString());
-            if (i == labScoreList.size() - 1) {
+        labScoreListString.append(String.format("%d.", scores.length));
+        for (int labNumber = 1; labNumber <= scores.length; labNumber++) {
+            labScoreListString.append(getLabScore(labNumber).toString());
+            if (labNumber == scores.length) {
                 break;
             }
             labScoreListString.append("|");
@@ -306,11 +321,13 @@ public class LabScoreList {
         }
 
         LabScoreList o = (LabScoreList) other;
-        for (int i = 0; i < o.labScoreList.size(); i++) {
-            if (!labScoreList.get(i).equals(o.labScoreList.get(i))) {
-                return false;
-            }
-        }
-        return true;
+        return Arrays.equals(scores, o.scores)
+                && (labSchema == o.labSchema || labSchema.equals(o.labSchema));
+    }
+
+    @Override
+    public int hashCode() {
+        // Max scores are left out as they can change under a shared schema.
+        return Arrays.hashCode(scores);
     }
 }
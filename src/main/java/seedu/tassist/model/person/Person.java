@@ -7,12 +7,16 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.tassist.commons.util.DeferredValue;
 import seedu.tassist.commons.util.ToStringBuilder;
 import seedu.tassist.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
- * Guarantees: details are present and not null, field values are validated, immutable.
+ * Guarantees: details are present and not null, field values are validated, immutable,
+ * except for the lab max scores, which are read from the {@code LabSchema} shared by every person
+ * of an address book and change with it.
+ * The remark of a person read from storage may be validated when read but only created when first used.
  */
 public class Person {
 
@@ -26,7 +30,7 @@ public class Person {
     private final LabGroup labGroup;
     private final Faculty faculty;
     private final Year year;
-    private final Remark remark;
+    private final DeferredValue<Remark> remark;
 
 
     // Data fields
@@ -34,6 +38,10 @@ public class Person {
     private final LabScoreList labScoreList;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Every field is immutable, so the hash is computed once. It leaves out the remark, so that a deferred
+    // remark is not created just to hash the person.
+    private final int hash;
+
     /**
      * Every field must be present and not null.
      */
@@ -41,6 +49,18 @@ public class Person {
                   MatNum matNum, TutGroup tutGroup, LabGroup labGroup, Faculty faculty,
                   Year year, Remark remark, AttendanceList attendanceList,
                   LabScoreList labScoreList, Set<Tag> tags) {
+        this(name, phone, teleHandle, email, matNum, tutGroup, labGroup, faculty, year,
+                DeferredValue.of(remark), attendanceList, labScoreList, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * The remark is created when it is first read, so it must have been validated already.
+     */
+    public Person(Name name, Phone phone, TeleHandle teleHandle, Email email,
+                  MatNum matNum, TutGroup tutGroup, LabGroup labGroup, Faculty faculty,
+                  Year year, DeferredValue<Remark> remark, AttendanceList attendanceList,
+                  LabScoreList labScoreList, Set<Tag> tags) {
         requireAllNonNull(name, phone, teleHandle, email,
                 matNum, tutGroup, labGroup, faculty, remark, attendanceList, labScoreList, tags);
         this.name = name;
@@ -56,6 +76,18 @@ public class Person {
         this.attendanceList = attendanceList;
         this.labScoreList = labScoreList;
         this.tags.addAll(tags);
+        this.hash = Objects.hash(name, phone, teleHandle, email,
+                matNum, tutGroup, labGroup, faculty, year,
+                this.tags, attendanceList, labScoreList);
+    }
+
+    /**
+     * Returns a copy of this person with {@code labScoreList} in place of its lab scores,
+     * leaving its remark to be created when first read.
+     */
+    public Person withLabScoreList(LabScoreList labScoreList) {
+        return new Person(name, phone, teleHandle, email, matNum, tutGroup, labGroup, faculty, year,
+                remark, attendanceList, labScoreList, tags);
     }
 
     public Name getName() {
@@ -95,7 +127,7 @@ public class Person {
     }
 
     public Remark getRemark() {
-        return remark;
+        return remark.get();
     }
 
 
@@ -145,6 +177,10 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
+        if (hash != otherPerson.hash) {
+            return false;
+        }
+
         return name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && teleHandle.equals(otherPerson.teleHandle)
@@ -154,7 +190,7 @@ public class Person {
                 && labGroup.equals(otherPerson.labGroup)
                 && faculty.equals(otherPerson.faculty)
                 && year.equals(otherPerson.year)
-                && remark.equals(otherPerson.remark)
+                && getRemark().equals(otherPerson.getRemark())
                 && tags.equals(otherPerson.tags)
                 && attendanceList.equals(otherPerson.attendanceList)
                 && labScoreList.equals(otherPerson.labScoreList);
@@ -162,10 +198,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, teleHandle, email,
-                matNum, tutGroup, labGroup, faculty, year, remark,
-                tags, attendanceList, labScoreList);
+        return hash;
     }
 
     @Override
@@ -180,7 +213,7 @@ public class Person {
                 .add("labGroup", labGroup)
                 .add("faculty", faculty)
                 .add("year", year)
-                .add("remark", remark)
+                .add("remark", getRemark())
                 .add("attendanceList", attendanceList)
                 .add("labScoreList", labScoreList)
                 .add("tags", tags)
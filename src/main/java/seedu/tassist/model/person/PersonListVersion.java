@@ -0,0 +1,148 @@
+package seedu.tassist.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.tassist.commons.util.PersistentHashMap;
+import seedu.tassist.commons.util.PersistentVector;
+
+/**
+ * An immutable version of a {@code UniquePersonList}.
+ * Persons are kept in display order in a {@code PersistentVector}, and by their {@code MatNum} in a
+ * {@code PersistentHashMap}. A new version shares all unchanged structure with the version it was made from,
+ * so keeping an old version costs O(1) time and only the memory of what has changed since.
+ * Uniqueness of persons is not checked here, and must be ensured by the caller.
+ */
+public final class PersonListVersion implements Iterable<Person> {
+
+    public static final PersonListVersion EMPTY =
+            new PersonListVersion(PersistentVector.empty(), PersistentHashMap.empty());
+
+    private final PersistentVector<Person> persons;
+    private final PersistentHashMap<MatNum, Person> personsByMatNum;
+
+    private PersonListVersion(PersistentVector<Person> persons, PersistentHashMap<MatNum, Person> personsByMatNum) {
+        this.persons = persons;
+        this.personsByMatNum = personsByMatNum;
+    }
+
+    /**
+     * Returns a version holding {@code persons}, in order.
+     * {@code persons} must not contain persons with the same {@code MatNum}.
+     */
+    public static PersonListVersion of(List<Person> persons) {
+        requireNonNull(persons);
+        PersistentHashMap<MatNum, Person> personsByMatNum = PersistentHashMap.empty();
+        for (Person person : persons) {
+            personsByMatNum = personsByMatNum.put(person.getMatNum(), person);
+        }
+        return new PersonListVersion(PersistentVector.of(persons), personsByMatNum);
+    }
+
+    public int size() {
+        return persons.size();
+    }
+
+    /**
+     * Returns the person at {@code index} in display order.
+     */
+    public Person get(int index) {
+        return persons.get(index);
+    }
+
+    /**
+     * Returns the person with the given {@code matNum}, if any.
+     */
+    public Optional<Person> findByMatNum(MatNum matNum) {
+        requireNonNull(matNum);
+        return Optional.ofNullable(personsByMatNum.get(matNum));
+    }
+
+    /**
+     * Returns a version with {@code person} added at the end.
+     */
+    public PersonListVersion withAdded(Person person) {
+        requireNonNull(person);
+        return new PersonListVersion(persons.add(person), personsByMatNum.put(person.getMatNum(), person));
+    }
+
+    /**
+     * Returns a version with {@code person} inserted at {@code index}.
+     */
+    public PersonListVersion withInserted(int index, Person person) {
+        requireNonNull(person);
+        return new PersonListVersion(persons.add(index, person), personsByMatNum.put(person.getMatNum(), person));
+    }
+
+    /**
+     * Returns a version with the person at {@code index} replaced by {@code editedPerson}.
+     */
+    public PersonListVersion withReplaced(int index, Person editedPerson) {
+        requireNonNull(editedPerson);
+        Person target = persons.get(index);
+        PersistentHashMap<MatNum, Person> updatedPersonsByMatNum = target.getMatNum().equals(editedPerson.getMatNum())
+                ? personsByMatNum
+                : personsByMatNum.remove(target.getMatNum());
+        return new PersonListVersion(persons.set(index, editedPerson),
+                updatedPersonsByMatNum.put(editedPerson.getMatNum(), editedPerson));
+    }
+
+    /**
+     * Returns a version with the person at {@code index} removed.
+     */
+    public PersonListVersion withRemoved(int index) {
+        Person target = persons.get(index);
+        return new PersonListVersion(persons.remove(index), personsByMatNum.remove(target.getMatNum()));
+    }
+
+    /**
+     * Returns an unmodifiable view of this version as a list, in display order.
+     */
+    public List<Person> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Person get(int index) {
+                return persons.get(index);
+            }
+
+            @Override
+            public int size() {
+                return persons.size();
+            }
+
+            @Override
+            public Iterator<Person> iterator() {
+                return persons.iterator();
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        return persons.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonListVersion)) {
+            return false;
+        }
+
+        PersonListVersion otherVersion = (PersonListVersion) other;
+        return asList().equals(otherVersion.asList());
+    }
+
+    @Override
+    public int hashCode() {
+        return asList().hashCode();
+    }
+}
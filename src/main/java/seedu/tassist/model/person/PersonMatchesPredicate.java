@@ -2,6 +2,7 @@ package seedu.tassist.model.person;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.tassist.commons.util.StringUtil;
@@ -74,15 +75,97 @@ public class PersonMatchesPredicate implements Predicate<Person> {
                 && (tutGroup == null || (
                         tutGroup.isEmpty() ? person.getTutGroup().value.isEmpty()
                                 : person.getTutGroup().equals(new TutGroup(tutGroup))))
-                && (labGroup == null || (
-                        labGroup.isEmpty() ? person.getLabGroup().value.isEmpty()
-                                : StringUtil.containsIgnoreCase(person.getLabGroup().value, labGroup)))
-                && (faculty == null || (
-                        faculty.isEmpty() ? person.getFaculty().value.isEmpty()
-                                : StringUtil.containsIgnoreCase(person.getFaculty().value, faculty)))
-                && (year == null || (
-                        year.isEmpty() ? person.getYear().value.isEmpty()
-                                : StringUtil.containsIgnoreCase(person.getYear().value, year)));
+                && (labGroup == null || matchesField(person.getLabGroup().value, labGroup))
+                && (faculty == null || matchesField(person.getFaculty().value, faculty))
+                && (year == null || matchesField(person.getYear().value, year));
+    }
+
+    /**
+     * Returns the name keywords of this predicate, if any are given.
+     */
+    public Optional<List<String>> getNameKeywords() {
+        return Optional.ofNullable(nameKeywords);
+    }
+
+    /**
+     * Returns the matriculation number criterion of this predicate, if one is given.
+     */
+    public Optional<String> getMatNumCriterion() {
+        return Optional.ofNullable(matNum);
+    }
+
+    /**
+     * Returns the phone criterion of this predicate, if one is given.
+     */
+    public Optional<String> getPhoneCriterion() {
+        return Optional.ofNullable(phone);
+    }
+
+    /**
+     * Returns the telegram handle criterion of this predicate, if one is given.
+     */
+    public Optional<String> getTeleHandleCriterion() {
+        return Optional.ofNullable(teleHandle);
+    }
+
+    /**
+     * Returns the email criterion of this predicate, if one is given.
+     */
+    public Optional<String> getEmailCriterion() {
+        return Optional.ofNullable(email);
+    }
+
+    /**
+     * Returns the tag criterion of this predicate, if one is given.
+     */
+    public Optional<String> getTagCriterion() {
+        return Optional.ofNullable(tag);
+    }
+
+    /**
+     * Returns the tutorial group criterion of this predicate, if one is given.
+     */
+    public Optional<Predicate<TutGroup>> getTutGroupCriterion() {
+        if (tutGroup == null) {
+            return Optional.empty();
+        }
+        if (tutGroup.isEmpty()) {
+            return Optional.of(value -> value.value.isEmpty());
+        }
+        TutGroup criterion = new TutGroup(tutGroup);
+        return Optional.of(criterion::equals);
+    }
+
+    /**
+     * Returns the lab group criterion of this predicate, if one is given.
+     */
+    public Optional<Predicate<LabGroup>> getLabGroupCriterion() {
+        return labGroup == null ? Optional.empty()
+                : Optional.of(value -> matchesField(value.value, labGroup));
+    }
+
+    /**
+     * Returns the faculty criterion of this predicate, if one is given.
+     */
+    public Optional<Predicate<Faculty>> getFacultyCriterion() {
+        return faculty == null ? Optional.empty()
+                : Optional.of(value -> matchesField(value.value, faculty));
+    }
+
+    /**
+     * Returns the year criterion of this predicate, if one is given.
+     */
+    public Optional<Predicate<Year>> getYearCriterion() {
+        return year == null ? Optional.empty()
+                : Optional.of(value -> matchesField(value.value, year));
+    }
+
+    /**
+     * Returns true if {@code fieldValue} satisfies the non-null {@code criterion}.
+     * An empty criterion only matches an empty field.
+     */
+    private static boolean matchesField(String fieldValue, String criterion) {
+        return criterion.isEmpty() ? fieldValue.isEmpty() : StringUtil.containsIgnoreCase(fieldValue, criterion);
     }
 
     @Override
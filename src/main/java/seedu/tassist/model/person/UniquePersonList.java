@@ -3,8 +3,15 @@ package seedu.tassist.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.tassist.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +27,17 @@ import seedu.tassist.model.person.exceptions.PersonNotFoundException;
  * However, the removal of a person uses Person#equals(Object) so as to ensure that the person
  * with exactly the same fields will be removed.
  *
+ * The contents are also kept as a {@code PersonListVersion}, which indexes persons by their {@code MatNum}
+ * so that identity checks and lookups do not need to scan the whole list, and which can be kept as
+ * a snapshot of the list in O(1) time.
+ * A person to replace or remove is located through this index, and its position in the backing list is
+ * found through a map from {@code MatNum} to position, so {@code Person#equals(Object)} is called at most once
+ * and no scan is needed. Since the {@code MatNum} of a stored person is stable until the person is replaced,
+ * it serves as the handle of the person's slot.
+ *
+ * Between {@link #beginBulkChange()} and {@link #endBulkChange()}, changes are only made to the version,
+ * and the backing list is brought up to date at the end with a single change event.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -29,13 +47,26 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PersonListVersion version = PersonListVersion.EMPTY;
+    private final Map<MatNum, Integer> slots = new HashMap<>();
+    // Positions from this one onwards may be out of date in slots, after a removal shifted them.
+    private int firstStaleSlot = 0;
+    private boolean isBulkChanging = false;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return version.findByMatNum(toCheck.getMatNum()).isPresent();
+    }
+
+    /**
+     * Returns the person in the list with the given {@code matNum}, if any.
+     */
+    public Optional<Person> findByMatNum(MatNum matNum) {
+        requireNonNull(matNum);
+        return version.findByMatNum(matNum);
     }
 
     /**
@@ -47,7 +78,31 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        version = version.withAdded(toAdd);
+        if (!isBulkChanging) {
+            internalList.add(toAdd);
+        }
+        if (firstStaleSlot == version.size() - 1) {
+            firstStaleSlot++;
+        }
+        slots.put(toAdd.getMatNum(), version.size() - 1);
+    }
+
+    /**
+     * Inserts a person into the list at {@code index}, shifting later persons back by one.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        version = version.withInserted(index, toAdd);
+        if (!isBulkChanging) {
+            internalList.add(index, toAdd);
+        }
+        firstStaleSlot = Math.min(firstStaleSlot, index + 1);
+        slots.put(toAdd.getMatNum(), index);
     }
 
     /**
@@ -59,7 +114,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -68,36 +123,136 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        version = version.withReplaced(index, editedPerson);
+        if (!isBulkChanging) {
+            internalList.set(index, editedPerson);
+        }
+        slots.remove(target.getMatNum());
+        slots.put(editedPerson.getMatNum(), index);
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return The position the person was removed from.
      */
-    public void remove(Person toRemove) {
+    public int remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        version = version.withRemoved(index);
+        if (!isBulkChanging) {
+            internalList.remove(index);
+        }
+        slots.remove(toRemove.getMatNum());
+        firstStaleSlot = Math.min(firstStaleSlot, index);
+        return index;
+    }
+
+    /**
+     * Returns the position in the backing list of the person equal to {@code target}, or -1 if there is none.
+     */
+    private int indexOf(Person target) {
+        Person storedPerson = version.findByMatNum(target.getMatNum()).orElse(null);
+        if (storedPerson == null || (storedPerson != target && !storedPerson.equals(target))) {
+            return -1;
+        }
+
+        int slot = slots.get(storedPerson.getMatNum());
+        if (slot < firstStaleSlot) {
+            return slot;
+        }
+        // Only the positions after the earliest removal since the last lookup need to be brought up to date.
+        for (int i = firstStaleSlot; i < version.size(); i++) {
+            slots.put(personAt(i).getMatNum(), i);
+        }
+        firstStaleSlot = version.size();
+        return slots.get(storedPerson.getMatNum());
+    }
+
+    /**
+     * Rebuilds the positions of every person in the list.
+     */
+    private void rebuildSlots() {
+        slots.clear();
+        for (int i = 0; i < version.size(); i++) {
+            slots.put(personAt(i).getMatNum(), i);
+        }
+        firstStaleSlot = version.size();
+    }
+
+    private Person personAt(int index) {
+        // The backing list is faster to read, but is out of date during a bulk change.
+        return isBulkChanging ? version.get(index) : internalList.get(index);
+    }
+
+    /**
+     * Defers changes to the backing list until {@link #endBulkChange()}, so that its listeners
+     * receive a single change event for many changes.
+     */
+    public void beginBulkChange() {
+        isBulkChanging = true;
+    }
+
+    /**
+     * Brings the backing list up to date with every change made since {@link #beginBulkChange()}.
+     */
+    public void endBulkChange() {
+        if (!isBulkChanging) {
+            return;
+        }
+        isBulkChanging = false;
+        internalList.setAll(version.asList());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setVersion(replacement.version);
+    }
+
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     * {@code replacement} is already known to be unique, so it is not validated again.
+     */
+    public void setVersion(PersonListVersion replacement) {
+        requireNonNull(replacement);
+        version = replacement;
+        if (!isBulkChanging) {
+            internalList.setAll(replacement.asList());
+        }
+        rebuildSlots();
+    }
+
+    /**
+     * Returns the current contents of this list as an immutable version, in O(1) time.
+     */
+    public PersonListVersion getVersion() {
+        return version;
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Validation is done in a single hash-based pass, and the backing list is replaced
+     * with one {@code setAll} so that listeners receive a single change event.
+     *
+     * @throws DuplicatePersonException listing every duplicated {@code MatNum} in {@code persons}.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<MatNum> duplicateMatNums = findDuplicateMatNums(persons);
+        if (!duplicateMatNums.isEmpty()) {
+            throw new DuplicatePersonException(duplicateMatNums);
         }
 
-        internalList.setAll(persons);
+        version = PersonListVersion.of(persons);
+        if (!isBulkChanging) {
+            internalList.setAll(persons);
+        }
+        rebuildSlots();
     }
 
     /**
@@ -109,7 +264,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return isBulkChanging ? version.iterator() : internalList.iterator();
     }
 
     @Override
@@ -138,16 +293,18 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns every {@code MatNum} that is shared by more than one person in {@code persons},
+     * in the order in which the duplicates are first encountered.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    public static List<MatNum> findDuplicateMatNums(List<Person> persons) {
+        requireAllNonNull(persons);
+        Set<MatNum> seenMatNums = new HashSet<>();
+        Set<MatNum> duplicateMatNums = new LinkedHashSet<>();
+        for (Person person : persons) {
+            if (!seenMatNums.add(person.getMatNum())) {
+                duplicateMatNums.add(person.getMatNum());
             }
         }
-        return true;
+        return new ArrayList<>(duplicateMatNums);
     }
 }
@@ -1,5 +1,10 @@
 package seedu.tassist.model.person.exceptions;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import seedu.tassist.model.person.MatNum;
+
 /**
  * Signals that the operation will result in duplicate Persons
  * (Persons are considered duplicates if they have the same identity).
@@ -8,4 +13,12 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that reports every duplicated {@code MatNum}.
+     */
+    public DuplicatePersonException(Collection<MatNum> duplicateMatNums) {
+        super("Operation would result in duplicate persons: "
+                + duplicateMatNums.stream().map(MatNum::toString).collect(Collectors.joining(", ")));
+    }
 }
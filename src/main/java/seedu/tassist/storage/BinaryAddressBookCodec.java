@@ -0,0 +1,256 @@
+package seedu.tassist.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.tassist.commons.exceptions.IllegalValueException;
+import seedu.tassist.commons.util.DeferredValue;
+import seedu.tassist.model.person.AttendanceList;
+import seedu.tassist.model.person.Email;
+import seedu.tassist.model.person.Faculty;
+import seedu.tassist.model.person.LabGroup;
+import seedu.tassist.model.person.LabSchema;
+import seedu.tassist.model.person.LabScore;
+import seedu.tassist.model.person.LabScoreList;
+import seedu.tassist.model.person.MatNum;
+import seedu.tassist.model.person.Name;
+import seedu.tassist.model.person.Person;
+import seedu.tassist.model.person.Phone;
+import seedu.tassist.model.person.Remark;
+import seedu.tassist.model.person.TeleHandle;
+import seedu.tassist.model.person.TutGroup;
+import seedu.tassist.model.person.Year;
+import seedu.tassist.model.tag.Tag;
+
+/**
+ * Encodes a person as a standalone binary record, with its lab max scores followed by its fields.
+ * Attendance is stored as its packed bits and lab scores as plain ints.
+ * Strings are stored as their length in bytes followed by their UTF-8 bytes.
+ * Every value is validated as it is decoded, but the remark, which the address book does not need at load time,
+ * is only created when it is first read.
+ */
+class BinaryAddressBookCodec {
+
+    private static final DeferredValue<Remark> EMPTY_REMARK = DeferredValue.of(new Remark(""));
+
+    private BinaryAddressBookCodec() {}
+
+    private static void writePerson(DataOutputStream out, Person person) throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getTeleHandle().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getMatNum().value);
+        writeString(out, person.getTutGroup().value);
+        writeString(out, person.getLabGroup().value);
+        writeString(out, person.getFaculty().value);
+        writeString(out, person.getYear().value);
+        writeString(out, person.getRemark().value);
+        out.writeInt(person.getAttendanceList().toAttendanceBits());
+
+        LabScoreList labScoreList = person.getLabScoreList();
+        for (int labNumber = 1; labNumber <= labScoreList.getLabCount(); labNumber++) {
+            out.writeInt(labScoreList.getScore(labNumber));
+        }
+
+        Set<Tag> tags = person.getTags();
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            writeString(out, tag.tagName);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Returns {@code person} encoded as a standalone record, to be read back by {@link #decodeRecord}.
+     */
+    static byte[] encodeRecord(Person person) throws IOException {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(record);
+        LabScoreList labScoreList = person.getLabScoreList();
+        out.writeInt(labScoreList.getLabCount());
+        for (int labNumber = 1; labNumber <= labScoreList.getLabCount(); labNumber++) {
+            out.writeInt(labScoreList.getMaxScore(labNumber));
+        }
+        writePerson(out, person);
+        out.flush();
+        return record.toByteArray();
+    }
+
+    /**
+     * Reads the person in the remaining bytes of {@code record}, encoded by {@link #encodeRecord}.
+     * Persons decoded with the same {@code decoder} share the values they have in common.
+     *
+     * @throws IOException if the record is truncated or longer than the person in it.
+     * @throws IllegalValueException if the person is invalid.
+     */
+    static Person decodeRecord(ByteBuffer record, PersonDecoder decoder) throws IOException, IllegalValueException {
+        try {
+            int[] maxScores = new int[readCount(record, Integer.BYTES)];
+            for (int i = 0; i < maxScores.length; i++) {
+                maxScores[i] = record.getInt();
+                if (!LabSchema.isValidMaxScore(maxScores[i])) {
+                    throw new IllegalValueException(LabScoreList.INVALID_LAB_SAVE);
+                }
+            }
+            Person person = decoder.decode(record, maxScores);
+            if (record.hasRemaining()) {
+                throw new IOException("Person record is longer than its person");
+            }
+            return person;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Person record is truncated", e);
+        }
+    }
+
+    /**
+     * Returns a decoder for records encoded by {@link #encodeRecord}.
+     */
+    static PersonDecoder newRecordDecoder() {
+        return new PersonDecoder();
+    }
+
+    /**
+     * Reads a count of items of at least {@code minItemSize} bytes each, checking that they fit in the buffer.
+     */
+    private static int readCount(ByteBuffer buffer, int minItemSize) throws IOException {
+        int count = buffer.getInt();
+        if (count < 0 || (long) count * minItemSize > buffer.remaining()) {
+            throw new IOException("Invalid count " + count + " at position " + (buffer.position() - Integer.BYTES));
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        byte[] bytes = new byte[readCount(buffer, 1)];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Decodes persons, creating each value that repeats across persons only once so that persons share it.
+     */
+    static class PersonDecoder {
+        private final SharedValues<TutGroup> tutGroups = new SharedValues<>(
+                TutGroup::isValidTutGroup, TutGroup.MESSAGE_CONSTRAINTS, TutGroup::new);
+        private final SharedValues<LabGroup> labGroups = new SharedValues<>(
+                LabGroup::isValidLabGroup, LabGroup.MESSAGE_CONSTRAINTS, LabGroup::new);
+        private final SharedValues<Faculty> faculties = new SharedValues<>(
+                Faculty::isValidFaculty, Faculty.MESSAGE_CONSTRAINTS, Faculty::new);
+        private final SharedValues<Year> years = new SharedValues<>(
+                Year::isValidYear, Year.MESSAGE_CONSTRAINTS, Year::new);
+        private final SharedValues<Tag> tags = new SharedValues<>(
+                Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS, Tag::new);
+
+        private PersonDecoder() {}
+
+        Person decode(ByteBuffer buffer, int[] maxScores) throws IOException, IllegalValueException {
+            Name name = create(readString(buffer), Name::isValidName, Name.MESSAGE_CONSTRAINTS, Name::new);
+            Phone phone = create(readString(buffer), Phone::isValidPhone, Phone.MESSAGE_CONSTRAINTS, Phone::new);
+            TeleHandle teleHandle = create(readString(buffer), TeleHandle::isValidTeleHandle,
+                    TeleHandle.MESSAGE_CONSTRAINTS, TeleHandle::new);
+            Email email = create(readString(buffer), Email::isValidEmail, Email.MESSAGE_CONSTRAINTS, Email::new);
+            MatNum matNum = create(readString(buffer), MatNum::isValidMatNum, MatNum.MESSAGE_CONSTRAINTS,
+                    MatNum::new);
+            TutGroup tutGroup = tutGroups.get(readString(buffer));
+            LabGroup labGroup = labGroups.get(readString(buffer));
+            Faculty faculty = faculties.get(readString(buffer));
+            Year year = years.get(readString(buffer));
+            DeferredValue<Remark> remark = readRemark(buffer);
+
+            int attendanceBits = buffer.getInt();
+            if (!AttendanceList.isValidAttendanceBits(attendanceBits)) {
+                throw new IllegalValueException(AttendanceList.ATTENDANCE_STRING_MESSAGE_CONSTRAINTS);
+            }
+            AttendanceList attendanceList = AttendanceList.fromAttendanceBits(attendanceBits);
+            // Only students in a tutorial group have their attendance taken.
+            if (tutGroup.isEmpty() != attendanceList.isEmpty()) {
+                throw new IllegalValueException(AttendanceList.ATTENDANCE_STRING_MESSAGE_CONSTRAINTS);
+            }
+
+            LabScore[] labScores = new LabScore[maxScores.length];
+            for (int i = 0; i < labScores.length; i++) {
+                labScores[i] = new LabScore(buffer.getInt(), maxScores[i]);
+            }
+
+            int tagCount = readCount(buffer, Integer.BYTES);
+            Set<Tag> personTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                personTags.add(tags.get(readString(buffer)));
+            }
+
+            return new Person(name, phone, teleHandle, email, matNum, tutGroup, labGroup, faculty, year, remark,
+                    attendanceList, new LabScoreList(labScores), personTags);
+        }
+
+    }
+
+    /**
+     * Reads a remark, validating its bytes but leaving the remark to be created when it is first read.
+     * A remark is valid if it has no double quote, and a double quote is never part of a multibyte UTF-8
+     * character, so it is enough to look for the byte of a double quote.
+     */
+    private static DeferredValue<Remark> readRemark(ByteBuffer buffer) throws IOException, IllegalValueException {
+        byte[] bytes = new byte[readCount(buffer, 1)];
+        buffer.get(bytes);
+        if (bytes.length == 0) {
+            return EMPTY_REMARK;
+        }
+        for (byte b : bytes) {
+            if (b == '"') {
+                throw new IllegalValueException(Remark.MESSAGE_CONSTRAINTS);
+            }
+        }
+        return DeferredValue.defer(() -> new Remark(new String(bytes, UTF_8)));
+    }
+
+    /**
+     * The values of one field that repeat across persons, each created when it is first read.
+     */
+    private static class SharedValues<T> {
+        private final Predicate<String> validator;
+        private final String errorMessage;
+        private final Function<String, T> constructor;
+        private final Map<String, T> values = new HashMap<>();
+
+        SharedValues(Predicate<String> validator, String errorMessage, Function<String, T> constructor) {
+            this.validator = validator;
+            this.errorMessage = errorMessage;
+            this.constructor = constructor;
+        }
+
+        T get(String entry) throws IllegalValueException {
+            T value = values.get(entry);
+            if (value != null) {
+                return value;
+            }
+            value = create(entry, validator, errorMessage, constructor);
+            values.put(entry, value);
+            return value;
+        }
+    }
+
+    private static <T> T create(String value, Predicate<String> validator, String errorMessage,
+            Function<String, T> constructor) throws IllegalValueException {
+        if (!validator.test(value)) {
+            throw new IllegalValueException(errorMessage);
+        }
+        return constructor.apply(value);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.tassist.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
@@ -10,18 +11,23 @@ import java.util.logging.Logger;
 
 import seedu.tassist.commons.core.LogsCenter;
 import seedu.tassist.commons.exceptions.DataLoadingException;
-import seedu.tassist.commons.util.CsvUtil;
+import seedu.tassist.commons.exceptions.IllegalValueException;
 import seedu.tassist.commons.util.FileUtil;
-import seedu.tassist.model.AddressBook;
 import seedu.tassist.model.ReadOnlyAddressBook;
-import seedu.tassist.model.person.Person;
 
 /**
  * A class to save the AddressBook data as a CSV file on the hard disk.
+ * Persons are written one row at a time by {@code CsvPersonWriter}, and read by {@code CsvPersonReader}.
+ * A file with the .gz extension is written gzip-compressed, and gzip-compressed files are read whatever their name.
  */
 public class CsvAddressBookStorage implements AddressBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    public static final String MESSAGE_INVALID_ROWS = "%d row(s) could not be read:";
+    public static final String MESSAGE_MORE_ERRORS = "...and %d more.";
+
+    private static final int MAX_REPORTED_ERRORS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(CsvAddressBookStorage.class);
 
     private Path filePath;
 
@@ -62,16 +68,35 @@ public class CsvAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
         logger.info("Reading AddressBook from CSV file: " + filePath);
 
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
         try {
-            List<Person> persons = CsvUtil.deserializeCsvToPersonList(filePath);
-            AddressBook addressBook = new AddressBook();
-            for (Person p : persons) {
-                addressBook.addPerson(p);
+            CsvPersonReader.Result result = CsvPersonReader.read(filePath);
+            if (result.hasErrors()) {
+                throw new IllegalValueException(toErrorMessage(result.getErrors()));
             }
-            return Optional.of(addressBook);
-        } catch (Exception e) {
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(result.getPersons()));
+        } catch (IOException e) {
+            logger.warning("Error reading from CSV file " + filePath + ": " + e);
             throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns a message listing the first {@value #MAX_REPORTED_ERRORS} of {@code errors}.
+     */
+    private static String toErrorMessage(List<String> errors) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_ROWS, errors.size()));
+        errors.stream().limit(MAX_REPORTED_ERRORS).forEach(error -> message.append('\n').append(error));
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            message.append('\n').append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_REPORTED_ERRORS));
         }
+        return message.toString();
     }
 
     /**
@@ -97,7 +122,7 @@ public class CsvAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        CsvUtil.serializeObjectToCsvFile(filePath, addressBook.getPersonList());
+        FileUtil.createParentDirsOfFile(filePath);
+        CsvPersonWriter.write(addressBook.getPersonList(), filePath);
     }
 }
@@ -0,0 +1,274 @@
+package seedu.tassist.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+
+import seedu.tassist.commons.core.LogsCenter;
+import seedu.tassist.commons.exceptions.IllegalValueException;
+import seedu.tassist.commons.util.FileUtil;
+import seedu.tassist.model.person.Person;
+
+/**
+ * Reads persons from a CSV file in the format written by {@code CsvPersonWriter}.
+ * The file is tokenized as it is read, following the quoting rules of RFC 4180, so quoted values may contain
+ * separators, quotes and line breaks. Rows are validated and converted into persons in chunks on a fork-join pool
+ * while the rest of the file is still being read.
+ * An invalid row does not stop the reading: the error is kept with its line number, and reading carries on.
+ */
+class CsvPersonReader {
+
+    static final int CHUNK_SIZE = 1024;
+    static final String MESSAGE_LINE_ERROR = "Line %d: %s";
+    static final String MESSAGE_UNCLOSED_QUOTE = "Quoted value is not closed.";
+    static final String MESSAGE_INVALID_TAGS = "Tags should be written as [[tag1],[tag2]].";
+
+    private static final Logger logger = LogsCenter.getLogger(CsvPersonReader.class);
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder value = new StringBuilder();
+    private int position = 0;
+    private int limit = 0;
+    private int lineNumber = 1;
+    private int recordLineNumber = 0;
+
+    CsvPersonReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Reads the persons in {@code filePath}, skipping the header row and blank lines.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    static Result read(Path filePath) throws IOException {
+        try (Reader in = new InputStreamReader(FileUtil.newInputStream(filePath), UTF_8)) {
+            return new CsvPersonReader(in).readPersons();
+        }
+    }
+
+    /**
+     * Reads every row after the header row, converting each into a person.
+     */
+    Result readPersons() throws IOException {
+        List<ForkJoinTask<Result>> chunkTasks = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        List<Row> chunk = new ArrayList<>();
+        try {
+            if (peek() == BYTE_ORDER_MARK) {
+                read();
+            }
+            readRecord(); // The header row.
+            List<String> values;
+            while ((values = readRecord()) != null) {
+                if (values.size() == 1 && values.get(0).isEmpty()) {
+                    continue;
+                }
+                chunk.add(new Row(recordLineNumber, values));
+                if (chunk.size() == CHUNK_SIZE) {
+                    chunkTasks.add(submit(chunk));
+                    chunk = new ArrayList<>();
+                }
+            }
+        } catch (IllegalValueException e) {
+            // The rest of the file cannot be told apart from the unclosed value.
+            errors.add(String.format(MESSAGE_LINE_ERROR, recordLineNumber, e.getMessage()));
+        }
+        chunkTasks.add(submit(chunk));
+
+        List<Person> persons = new ArrayList<>();
+        List<String> rowErrors = new ArrayList<>();
+        for (ForkJoinTask<Result> chunkTask : chunkTasks) {
+            Result chunkResult = chunkTask.join();
+            persons.addAll(chunkResult.getPersons());
+            rowErrors.addAll(chunkResult.getErrors());
+        }
+        rowErrors.addAll(errors);
+        return new Result(persons, rowErrors);
+    }
+
+    private static ForkJoinTask<Result> submit(List<Row> chunk) {
+        return ForkJoinPool.commonPool().submit(() -> decode(chunk));
+    }
+
+    /**
+     * Converts each row of {@code chunk} into a person, keeping the error of each invalid row.
+     */
+    private static Result decode(List<Row> chunk) {
+        List<Person> persons = new ArrayList<>(chunk.size());
+        List<String> errors = new ArrayList<>();
+        for (Row row : chunk) {
+            try {
+                persons.add(toPerson(row));
+            } catch (IllegalValueException e) {
+                errors.add(String.format(MESSAGE_LINE_ERROR, row.lineNumber, e.getMessage()));
+            }
+        }
+        return new Result(persons, errors);
+    }
+
+    private static Person toPerson(Row row) throws IllegalValueException {
+        List<String> values = row.values;
+        int columnCount = CsvPersonWriter.HEADER.length;
+        if (values.size() > columnCount) {
+            logger.warning("Line " + row.lineNumber + " has extra fields, ignoring extras.");
+        }
+        String[] fields = values.toArray(new String[Math.max(values.size(), columnCount)]);
+        for (int i = values.size(); i < columnCount; i++) {
+            fields[i] = "";
+        }
+
+        return new JsonAdaptedPerson(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6],
+                fields[7], fields[8], fields[9], fields[10], fields[11], parseTags(fields[12])).toModelType();
+    }
+
+    /**
+     * Parses tags written as {@code [[tag1],[tag2]]}. An empty value has no tags.
+     */
+    private static List<JsonAdaptedTag> parseTags(String value) throws IllegalValueException {
+        String tags = value.trim();
+        if (tags.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (tags.length() < 4 || !tags.startsWith("[[") || !tags.endsWith("]]")) {
+            throw new IllegalValueException(MESSAGE_INVALID_TAGS);
+        }
+
+        List<JsonAdaptedTag> adaptedTags = new ArrayList<>();
+        for (String tagName : tags.substring(2, tags.length() - 2).split("\\],\\s*\\[")) {
+            adaptedTags.add(new JsonAdaptedTag(tagName.trim()));
+        }
+        return adaptedTags;
+    }
+
+    /**
+     * Reads the values of the next record, or returns null if there are no more records.
+     * The line the record starts on is kept in {@code recordLineNumber}.
+     *
+     * @throws IllegalValueException if a quoted value is not closed before the end of the file.
+     */
+    List<String> readRecord() throws IOException, IllegalValueException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> values = new ArrayList<>();
+        value.setLength(0);
+        while (true) {
+            if (c == -1 || c == '\n' || c == '\r') {
+                values.add(value.toString());
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                lineNumber++;
+                return values;
+            }
+
+            if (c == SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == QUOTE && value.length() == 0) {
+                readQuotedValue();
+            } else {
+                value.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Reads the rest of a quoted value into {@code value}, up to and including its closing quote.
+     */
+    private void readQuotedValue() throws IOException, IllegalValueException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                throw new IllegalValueException(MESSAGE_UNCLOSED_QUOTE);
+            }
+            if (c == QUOTE) {
+                if (peek() != QUOTE) {
+                    return;
+                }
+                read();
+            } else if (c == '\n' || (c == '\r' && peek() != '\n')) {
+                lineNumber++;
+            }
+            value.append((char) c);
+        }
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        if (c != -1) {
+            position++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position];
+    }
+
+    /**
+     * The values of a record, and the line it starts on.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final List<String> values;
+
+        Row(int lineNumber, List<String> values) {
+            this.lineNumber = lineNumber;
+            this.values = values;
+        }
+    }
+
+    /**
+     * The persons read from the rows of a file, in order, and the error of each row that could not be read.
+     */
+    static class Result {
+        private final List<Person> persons;
+        private final List<String> errors;
+
+        Result(List<Person> persons, List<String> errors) {
+            this.persons = persons;
+            this.errors = errors;
+        }
+
+        List<Person> getPersons() {
+            return persons;
+        }
+
+        List<String> getErrors() {
+            return errors;
+        }
+
+        boolean hasErrors() {
+            return !errors.isEmpty();
+        }
+    }
+}
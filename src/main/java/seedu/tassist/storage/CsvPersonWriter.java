@@ -0,0 +1,136 @@
+package seedu.tassist.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.tassist.commons.util.FileUtil;
+import seedu.tassist.model.person.Person;
+import seedu.tassist.model.tag.Tag;
+
+/**
+ * Writes persons as CSV rows, one column per field of a {@code Person}.
+ * Each row is built in a buffer that is reused across rows, then written straight to the output,
+ * so the whole document is never held in memory. Values are quoted as specified by RFC 4180.
+ */
+class CsvPersonWriter {
+
+    static final String[] HEADER = {"name", "phone", "teleHandle", "email", "matNum", "tutGroup", "labGroup",
+        "faculty", "year", "remark", "attendanceList", "labScoreList", "tags"};
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer out;
+    private final StringBuilder row = new StringBuilder();
+
+    CsvPersonWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes {@code persons} to {@code filePath} after a header row, replacing the file only once all are written.
+     */
+    static void write(List<Person> persons, Path filePath) throws IOException {
+        FileUtil.writeToFile(filePath, fileOut -> {
+            BufferedWriter bufferedWriter = new BufferedWriter(new OutputStreamWriter(fileOut, UTF_8));
+            CsvPersonWriter writer = new CsvPersonWriter(bufferedWriter);
+            writer.writeHeader();
+            for (Person person : persons) {
+                writer.writePerson(person);
+            }
+            bufferedWriter.flush();
+        });
+    }
+
+    /**
+     * Writes the header row naming every column.
+     */
+    void writeHeader() throws IOException {
+        for (String column : HEADER) {
+            appendValue(column);
+        }
+        writeRow();
+    }
+
+    /**
+     * Writes the row of {@code person}.
+     */
+    void writePerson(Person person) throws IOException {
+        appendValue(person.getName().fullName);
+        appendValue(person.getPhone().value);
+        appendValue(person.getTeleHandle().value);
+        appendValue(person.getEmail().value);
+        appendValue(person.getMatNum().value);
+        appendValue(person.getTutGroup().value);
+        appendValue(person.getLabGroup().value);
+        appendValue(person.getFaculty().value);
+        appendValue(person.getYear().value);
+        appendValue(person.getRemark().value);
+        appendValue(person.getAttendanceList().toString());
+        appendValue(person.getLabScoreList().toString());
+        appendValue(toTagsValue(person));
+        writeRow();
+    }
+
+    /**
+     * Returns the tags of {@code person} in the form {@code [[tag1],[tag2]]}, or an empty string if it has none.
+     */
+    private static String toTagsValue(Person person) {
+        if (person.getTags().isEmpty()) {
+            return "";
+        }
+        StringBuilder tags = new StringBuilder("[");
+        for (Tag tag : person.getTags()) {
+            if (tags.length() > 1) {
+                tags.append(SEPARATOR);
+            }
+            tags.append(tag);
+        }
+        return tags.append(']').toString();
+    }
+
+    /**
+     * Appends {@code value} to the current row, quoting it if it contains a separator, quote or line break.
+     */
+    private void appendValue(String value) {
+        if (row.length() > 0) {
+            row.append(SEPARATOR);
+        }
+        if (!needsQuoting(value)) {
+            row.append(value);
+            return;
+        }
+        row.append(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                row.append(QUOTE);
+            }
+            row.append(c);
+        }
+        row.append(QUOTE);
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeRow() throws IOException {
+        row.append(LINE_SEPARATOR);
+        out.append(row);
+        row.setLength(0);
+    }
+}
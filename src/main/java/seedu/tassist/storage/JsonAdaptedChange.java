@@ -0,0 +1,172 @@
+package seedu.tassist.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.tassist.commons.exceptions.IllegalValueException;
+import seedu.tassist.model.Delta;
+import seedu.tassist.model.person.LabSchema;
+import seedu.tassist.model.person.Person;
+import seedu.tassist.model.person.PersonListVersion;
+
+/**
+ * Jackson-friendly version of a {@link Delta.Change}.
+ * Only the fields of its {@code type} of change are set.
+ */
+class JsonAdaptedChange {
+
+    public static final String MESSAGE_UNKNOWN_TYPE = "Undo history change has an unknown type: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Undo history change's %s field is missing!";
+
+    private static final String TYPE_PERSON = "person";
+    private static final String TYPE_LAB_MAX_SCORE = "labMaxScore";
+    private static final String TYPE_RESET = "reset";
+
+    private final String type;
+    private final JsonAdaptedPerson before;
+    private final JsonAdaptedPerson after;
+    private final int index;
+    private final int labNumber;
+    private final int oldMaxScore;
+    private final int newMaxScore;
+    private final List<JsonAdaptedPerson> oldPersons;
+    private final List<Integer> oldMaxScores;
+    private final List<JsonAdaptedPerson> newPersons;
+    private final List<Integer> newMaxScores;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("type") String type,
+                             @JsonProperty("before") JsonAdaptedPerson before,
+                             @JsonProperty("after") JsonAdaptedPerson after,
+                             @JsonProperty("index") int index,
+                             @JsonProperty("labNumber") int labNumber,
+                             @JsonProperty("oldMaxScore") int oldMaxScore,
+                             @JsonProperty("newMaxScore") int newMaxScore,
+                             @JsonProperty("oldPersons") List<JsonAdaptedPerson> oldPersons,
+                             @JsonProperty("oldMaxScores") List<Integer> oldMaxScores,
+                             @JsonProperty("newPersons") List<JsonAdaptedPerson> newPersons,
+                             @JsonProperty("newMaxScores") List<Integer> newMaxScores) {
+        this.type = type;
+        this.before = before;
+        this.after = after;
+        this.index = index;
+        this.labNumber = labNumber;
+        this.oldMaxScore = oldMaxScore;
+        this.newMaxScore = newMaxScore;
+        this.oldPersons = oldPersons;
+        this.oldMaxScores = oldMaxScores;
+        this.newPersons = newPersons;
+        this.newMaxScores = newMaxScores;
+    }
+
+    /**
+     * Converts a given {@code Delta.Change} into this class for Jackson use.
+     */
+    public JsonAdaptedChange(Delta.Change source) {
+        if (source instanceof Delta.PersonChange) {
+            Delta.PersonChange personChange = (Delta.PersonChange) source;
+            type = TYPE_PERSON;
+            before = personChange.getBefore() == null ? null : new JsonAdaptedPerson(personChange.getBefore());
+            after = personChange.getAfter() == null ? null : new JsonAdaptedPerson(personChange.getAfter());
+            index = personChange.getIndex();
+        } else {
+            type = source instanceof Delta.LabMaxScoreChange ? TYPE_LAB_MAX_SCORE : TYPE_RESET;
+            before = null;
+            after = null;
+            index = -1;
+        }
+
+        if (source instanceof Delta.LabMaxScoreChange) {
+            Delta.LabMaxScoreChange labMaxScoreChange = (Delta.LabMaxScoreChange) source;
+            labNumber = labMaxScoreChange.getLabNumber();
+            oldMaxScore = labMaxScoreChange.getOldMaxScore();
+            newMaxScore = labMaxScoreChange.getNewMaxScore();
+        } else {
+            labNumber = 0;
+            oldMaxScore = 0;
+            newMaxScore = 0;
+        }
+
+        if (source instanceof Delta.ResetChange) {
+            Delta.ResetChange resetChange = (Delta.ResetChange) source;
+            oldPersons = toAdaptedPersons(resetChange.getOldPersons());
+            oldMaxScores = toMaxScores(resetChange.getOldLabSchema());
+            newPersons = toAdaptedPersons(resetChange.getNewPersons());
+            newMaxScores = toMaxScores(resetChange.getNewLabSchema());
+        } else {
+            oldPersons = null;
+            oldMaxScores = null;
+            newPersons = null;
+            newMaxScores = null;
+        }
+    }
+
+    /**
+     * Records this Jackson-friendly adapted change in {@code delta}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public void recordIn(Delta delta) throws IllegalValueException {
+        if (TYPE_PERSON.equals(type)) {
+            if (before == null && after == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+            } else if (before == null) {
+                delta.recordAdded(after.toModelType());
+            } else if (after == null) {
+                delta.recordRemoved(before.toModelType(), index);
+            } else {
+                delta.recordReplaced(before.toModelType(), after.toModelType());
+            }
+        } else if (TYPE_LAB_MAX_SCORE.equals(type)) {
+            delta.recordLabMaxScoreChanged(labNumber, oldMaxScore, newMaxScore);
+        } else if (TYPE_RESET.equals(type)) {
+            if (oldPersons == null || oldMaxScores == null || newPersons == null || newMaxScores == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "reset"));
+            }
+            delta.recordReset(toVersion(oldPersons), toLabSchema(oldMaxScores),
+                    toVersion(newPersons), toLabSchema(newMaxScores));
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    private static List<JsonAdaptedPerson> toAdaptedPersons(PersonListVersion version) {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>(version.size());
+        for (Person person : version) {
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+        return adaptedPersons;
+    }
+
+    private static List<Integer> toMaxScores(LabSchema labSchema) {
+        List<Integer> maxScores = new ArrayList<>(labSchema.getLabCount());
+        for (int labNumber = 1; labNumber <= labSchema.getLabCount(); labNumber++) {
+            maxScores.add(labSchema.getMaxScore(labNumber));
+        }
+        return maxScores;
+    }
+
+    private static PersonListVersion toVersion(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        List<Person> persons = new ArrayList<>(adaptedPersons.size());
+        for (JsonAdaptedPerson adaptedPerson : adaptedPersons) {
+            persons.add(adaptedPerson.toModelType());
+        }
+        return PersonListVersion.of(persons);
+    }
+
+    private static LabSchema toLabSchema(List<Integer> maxScores) throws IllegalValueException {
+        int[] scores = maxScores.stream().mapToInt(Integer::intValue).toArray();
+        for (int maxScore : scores) {
+            if (!LabSchema.isValidMaxScore(maxScore)) {
+                throw new IllegalValueException(LabSchema.MESSAGE_CONSTRAINTS);
+            }
+        }
+        return new LabSchema(scores);
+    }
+}
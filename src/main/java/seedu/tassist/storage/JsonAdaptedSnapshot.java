@@ -0,0 +1,76 @@
+package seedu.tassist.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.tassist.commons.exceptions.IllegalValueException;
+import seedu.tassist.model.Delta;
+import seedu.tassist.model.Operations;
+import seedu.tassist.model.Snapshot;
+
+/**
+ * Jackson-friendly version of {@link Snapshot}.
+ */
+class JsonAdaptedSnapshot {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Undo history entry's %s field is missing!";
+
+    private final String commandString;
+    private final String commandTypeString;
+    private final Operations.RecordType recordType;
+    private final List<JsonAdaptedChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSnapshot} with the given snapshot details.
+     */
+    @JsonCreator
+    public JsonAdaptedSnapshot(@JsonProperty("commandString") String commandString,
+                               @JsonProperty("commandTypeString") String commandTypeString,
+                               @JsonProperty("recordType") Operations.RecordType recordType,
+                               @JsonProperty("changes") List<JsonAdaptedChange> changes) {
+        this.commandString = commandString;
+        this.commandTypeString = commandTypeString;
+        this.recordType = recordType;
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    /**
+     * Converts a given {@code Snapshot} into this class for Jackson use.
+     */
+    public JsonAdaptedSnapshot(Snapshot source) {
+        commandString = source.getCommandString();
+        commandTypeString = source.getCommandTypeString();
+        recordType = source.getRecordType();
+        changes.addAll(source.getDelta().getChanges().stream()
+                .map(JsonAdaptedChange::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted snapshot object into the model's {@code Snapshot} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted snapshot.
+     */
+    public Snapshot toModelType() throws IllegalValueException {
+        if (commandString == null || commandTypeString == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "command"));
+        }
+        if (recordType == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "recordType"));
+        }
+
+        Delta delta = new Delta();
+        for (JsonAdaptedChange change : changes) {
+            change.recordIn(delta);
+        }
+        Snapshot snapshot = new Snapshot(commandString, commandTypeString, recordType);
+        snapshot.setDelta(delta);
+        return snapshot;
+    }
+}
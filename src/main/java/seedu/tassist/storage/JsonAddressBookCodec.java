@@ -0,0 +1,81 @@
+package seedu.tassist.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.tassist.commons.exceptions.IllegalValueException;
+import seedu.tassist.commons.util.FileUtil;
+import seedu.tassist.commons.util.JsonUtil;
+import seedu.tassist.model.AddressBook;
+import seedu.tassist.model.ReadOnlyAddressBook;
+import seedu.tassist.model.person.Person;
+
+/**
+ * Reads and writes an address book json file one person at a time, in the format of
+ * {@code JsonSerializableAddressBook}.
+ * Neither the whole document nor a list of {@code JsonAdaptedPerson}s is ever held in memory:
+ * each person is converted as it is written, and read into the model as soon as it is parsed.
+ */
+class JsonAddressBookCodec {
+
+    private static final String PERSONS_FIELD = "persons";
+
+    private JsonAddressBookCodec() {}
+
+    /**
+     * Writes the persons of {@code addressBook} to {@code filePath}, replacing the file only once all are written.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(PERSONS_FIELD);
+                for (Person person : addressBook.getPersonList()) {
+                    generator.writeObject(new JsonAdaptedPerson(person));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * Reads the address book in {@code filePath}. Fields other than the persons are skipped.
+     *
+     * @throws IOException if the file could not be read or is not an address book json file.
+     * @throws IllegalValueException if any person in the file is invalid.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream in = FileUtil.newInputStream(filePath);
+             JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+
+            List<Person> persons = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals(PERSONS_FIELD) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array of persons");
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    persons.add(parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+                }
+            }
+            return JsonSerializableAddressBook.toAddressBook(persons);
+        }
+    }
+}
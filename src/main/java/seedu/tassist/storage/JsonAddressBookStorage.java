@@ -3,6 +3,7 @@ package seedu.tassist.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,11 +12,12 @@ import seedu.tassist.commons.core.LogsCenter;
 import seedu.tassist.commons.exceptions.DataLoadingException;
 import seedu.tassist.commons.exceptions.IllegalValueException;
 import seedu.tassist.commons.util.FileUtil;
-import seedu.tassist.commons.util.JsonUtil;
 import seedu.tassist.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written one person at a time by {@code JsonAddressBookCodec}.
+ * A file with the .gz extension is written gzip-compressed, and gzip-compressed files are read whatever their name.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
@@ -46,14 +48,15 @@ public class JsonAddressBookStorage implements AddressBookStorage {
             throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(JsonAddressBookCodec.read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from json file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,8 +77,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonAddressBookCodec.write(addressBook, filePath);
     }
 
 }
@@ -11,7 +11,9 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.tassist.commons.exceptions.IllegalValueException;
 import seedu.tassist.model.AddressBook;
 import seedu.tassist.model.ReadOnlyAddressBook;
+import seedu.tassist.model.person.MatNum;
 import seedu.tassist.model.person.Person;
+import seedu.tassist.model.person.UniquePersonList;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,6 +23,8 @@ public class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON =
             "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_MAT_NUMS =
+            MESSAGE_DUPLICATE_PERSON + " Duplicate matriculation number(s): %1$s";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -48,14 +52,33 @@ public class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
         }
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Returns an {@code AddressBook} of {@code modelPersons}, read from a file.
+     *
+     * @throws IllegalValueException if the persons share matriculation numbers or have different lab max scores.
+     */
+    static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        List<MatNum> duplicateMatNums = UniquePersonList.findDuplicateMatNums(modelPersons);
+        if (!duplicateMatNums.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_MAT_NUMS,
+                    duplicateMatNums.stream().map(MatNum::toString).collect(Collectors.joining(", "))));
+        }
+
+        List<MatNum> inconsistentMatNums = AddressBook.findInconsistentLabSchemas(modelPersons);
+        if (!inconsistentMatNums.isEmpty()) {
+            throw new IllegalValueException(String.format(AddressBook.MESSAGE_INCONSISTENT_LAB_MAX_SCORES,
+                    inconsistentMatNums.stream().map(MatNum::toString).collect(Collectors.joining(", "))));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(modelPersons);
         return addressBook;
     }
 
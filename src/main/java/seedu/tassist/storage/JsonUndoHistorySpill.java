@@ -0,0 +1,103 @@
+package seedu.tassist.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.tassist.commons.exceptions.DataLoadingException;
+import seedu.tassist.commons.exceptions.IllegalValueException;
+import seedu.tassist.commons.util.FileUtil;
+import seedu.tassist.commons.util.JsonUtil;
+import seedu.tassist.model.Snapshot;
+import seedu.tassist.model.UndoHistorySpill;
+
+/**
+ * An {@code UndoHistorySpill} that appends snapshots to a json file on the hard disk.
+ * Only the offset of each snapshot in the file is kept in memory. Popping a snapshot reads it back
+ * and cuts it off the end of the file, so the file never holds more than the snapshots spilled.
+ * The file is only meant to last for one session, and is overwritten by the next.
+ */
+public class JsonUndoHistorySpill implements UndoHistorySpill {
+
+    private final Path filePath;
+    private final List<Long> offsets = new ArrayList<>();
+    private long endOffset = 0;
+
+    public JsonUndoHistorySpill(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public int size() {
+        return offsets.size();
+    }
+
+    @Override
+    public void push(Snapshot snapshot) throws IOException {
+        requireNonNull(snapshot);
+        byte[] bytes = JsonUtil.toJsonString(new JsonAdaptedSnapshot(snapshot)).getBytes(StandardCharsets.UTF_8);
+
+        FileUtil.createIfMissing(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            if (offsets.isEmpty()) {
+                // Drops whatever an earlier session left behind.
+                channel.truncate(0);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long position = endOffset;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        }
+        offsets.add(endOffset);
+        endOffset += bytes.length;
+    }
+
+    @Override
+    public Snapshot pop() throws DataLoadingException {
+        if (offsets.isEmpty()) {
+            throw new IllegalStateException("No snapshot has been spilled.");
+        }
+        long startOffset = offsets.remove(offsets.size() - 1);
+        long length = endOffset - startOffset;
+        endOffset = startOffset;
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(length));
+            long position = startOffset;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("Undo history file " + filePath + " ended unexpectedly.");
+                }
+                position += read;
+            }
+            channel.truncate(startOffset);
+
+            String json = new String(buffer.array(), StandardCharsets.UTF_8);
+            return JsonUtil.fromJsonString(json, JsonAdaptedSnapshot.class).toModelType();
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void clear() throws IOException {
+        offsets.clear();
+        endOffset = 0;
+        Files.deleteIfExists(filePath);
+    }
+}
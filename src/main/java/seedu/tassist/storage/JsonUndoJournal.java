@@ -0,0 +1,356 @@
+package seedu.tassist.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.tassist.commons.core.LogsCenter;
+import seedu.tassist.commons.exceptions.DataLoadingException;
+import seedu.tassist.commons.exceptions.IllegalValueException;
+import seedu.tassist.commons.util.FileUtil;
+import seedu.tassist.commons.util.JsonUtil;
+import seedu.tassist.model.Snapshot;
+import seedu.tassist.model.UndoJournal;
+
+/**
+ * An {@code UndoJournal} kept in an append-only file on the hard disk.
+ * Each entry is a frame of a one byte type, the length of its payload, a CRC32 checksum of the type and payload,
+ * and the payload itself, which is a compact json {@code Snapshot} for a recorded command and empty otherwise.
+ *
+ * On {@link #recover()}, the frames are checked and replayed to find which recorded commands can still be undone
+ * and redone, but only their offsets are kept: a command is only read back when it is undone.
+ * A frame that was cut short by a crash, and everything after it, is dropped.
+ */
+public class JsonUndoJournal implements UndoJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonUndoJournal.class);
+
+    private static final byte TYPE_RECORDED = 'R';
+    private static final byte TYPE_UNDONE = 'U';
+    private static final byte TYPE_REDONE = 'D';
+    private static final int HEADER_LENGTH = 1 + Integer.BYTES + Integer.BYTES;
+    // The journal is only rewritten without its dead frames once they take up most of a file this large.
+    private static final long MIN_COMPACTION_SIZE = 64 * 1024;
+
+    private final Path filePath;
+    private long endOffset = 0;
+    // Offsets of the recorded commands that can be undone, with the next one to undo last.
+    private final List<Long> undoOffsets = new ArrayList<>();
+    // Offsets of the recorded commands that can be redone, with the next one to redo last.
+    private final List<Long> redoOffsets = new ArrayList<>();
+    // The first this many commands of undoOffsets are not in memory, but only in the journal.
+    private int spilledCount = 0;
+
+    public JsonUndoJournal(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Reads the journal file, if any, to find the commands that can be undone and redone.
+     * The commands that can be undone are left in the journal until they are popped.
+     *
+     * @throws IOException if there was any problem reading or repairing the journal file.
+     */
+    public void recover() throws IOException {
+        undoOffsets.clear();
+        redoOffsets.clear();
+        endOffset = 0;
+        if (!FileUtil.isFileExists(filePath)) {
+            spilledCount = 0;
+            return;
+        }
+
+        long fileSize = Files.size(filePath);
+        Map<Long, Integer> frameLengths = new HashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            while (true) {
+                int frameLength = readFrame(in, fileSize);
+                if (frameLength < 0) {
+                    break;
+                }
+                frameLengths.put(endOffset, frameLength);
+                endOffset += frameLength;
+            }
+        }
+
+        if (fileSize > endOffset) {
+            logger.warning("Dropping " + (fileSize - endOffset) + " damaged bytes at the end of " + filePath);
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+                channel.truncate(endOffset);
+            }
+        }
+
+        long liveSize = 0;
+        for (long offset : undoOffsets) {
+            liveSize += frameLengths.get(offset);
+        }
+        for (long offset : redoOffsets) {
+            liveSize += frameLengths.get(offset);
+        }
+        if (endOffset > MIN_COMPACTION_SIZE && liveSize * 2 < endOffset) {
+            compact(frameLengths);
+        }
+        spilledCount = undoOffsets.size();
+    }
+
+    /**
+     * Reads and checks the frame at the current position of {@code in}, and replays it.
+     * Returns the length of the frame, or -1 if there is no whole and undamaged frame left.
+     */
+    private int readFrame(DataInputStream in, long fileSize) throws IOException {
+        byte type;
+        byte[] payload;
+        int checksum;
+        try {
+            type = in.readByte();
+            int payloadLength = in.readInt();
+            checksum = in.readInt();
+            if (payloadLength < 0 || payloadLength > fileSize) {
+                return -1;
+            }
+            payload = in.readNBytes(payloadLength);
+            if (payload.length < payloadLength) {
+                return -1;
+            }
+        } catch (EOFException e) {
+            return -1;
+        }
+        if (checksum != checksum(type, payload)) {
+            return -1;
+        }
+
+        switch (type) {
+        case TYPE_RECORDED:
+            undoOffsets.add(endOffset);
+            redoOffsets.clear();
+            break;
+        case TYPE_UNDONE:
+            if (!undoOffsets.isEmpty()) {
+                redoOffsets.add(undoOffsets.remove(undoOffsets.size() - 1));
+            }
+            break;
+        case TYPE_REDONE:
+            if (!redoOffsets.isEmpty()) {
+                undoOffsets.add(redoOffsets.remove(redoOffsets.size() - 1));
+            }
+            break;
+        default:
+            return -1;
+        }
+        return HEADER_LENGTH + payload.length;
+    }
+
+    /**
+     * Rewrites the journal with only the frames of the commands that can still be undone or redone.
+     * The frames are copied as they are, without being read back as commands.
+     */
+    private void compact(Map<Long, Integer> frameLengths) throws IOException {
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        List<Long> newUndoOffsets = new ArrayList<>();
+        Long[] newRedoOffsets = new Long[redoOffsets.size()];
+        long newEndOffset = 0;
+        try (FileChannel source = FileChannel.open(filePath, StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(tempFilePath, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (long offset : undoOffsets) {
+                newUndoOffsets.add(newEndOffset);
+                newEndOffset += copyFrame(source, target, offset, frameLengths.get(offset));
+            }
+            // Commands that can be redone are recorded from the last one to redo, and then undone again.
+            for (int i = redoOffsets.size() - 1; i >= 0; i--) {
+                long offset = redoOffsets.get(i);
+                newRedoOffsets[i] = newEndOffset;
+                newEndOffset += copyFrame(source, target, offset, frameLengths.get(offset));
+            }
+            for (int i = 0; i < redoOffsets.size(); i++) {
+                newEndOffset += writeFully(target, frame(TYPE_UNDONE, new byte[0]));
+            }
+            target.force(true);
+        }
+        Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        undoOffsets.clear();
+        undoOffsets.addAll(newUndoOffsets);
+        redoOffsets.clear();
+        redoOffsets.addAll(List.of(newRedoOffsets));
+        endOffset = newEndOffset;
+    }
+
+    private static int copyFrame(FileChannel source, FileChannel target, long offset, int length)
+            throws IOException {
+        long copied = 0;
+        while (copied < length) {
+            copied += source.transferTo(offset + copied, length - copied, target);
+        }
+        return length;
+    }
+
+    private static int writeFully(FileChannel target, ByteBuffer buffer) throws IOException {
+        int length = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        return length;
+    }
+
+    /**
+     * Returns a frame of {@code type} and {@code payload}, ready to be written.
+     */
+    private static ByteBuffer frame(byte type, byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + payload.length);
+        buffer.put(type).putInt(payload.length).putInt(checksum(type, payload)).put(payload);
+        buffer.flip();
+        return buffer;
+    }
+
+    @Override
+    public void appendRecorded(Snapshot snapshot) throws IOException {
+        requireNonNull(snapshot);
+        byte[] payload = JsonUtil.toCompactJsonString(new JsonAdaptedSnapshot(snapshot))
+                .getBytes(StandardCharsets.UTF_8);
+        long offset = append(TYPE_RECORDED, payload);
+        undoOffsets.add(offset);
+        redoOffsets.clear();
+    }
+
+    @Override
+    public void appendUndone() throws IOException {
+        append(TYPE_UNDONE, new byte[0]);
+        if (!undoOffsets.isEmpty()) {
+            redoOffsets.add(undoOffsets.remove(undoOffsets.size() - 1));
+            spilledCount = Math.min(spilledCount, undoOffsets.size());
+        }
+    }
+
+    @Override
+    public void appendRedone() throws IOException {
+        append(TYPE_REDONE, new byte[0]);
+        if (!redoOffsets.isEmpty()) {
+            undoOffsets.add(redoOffsets.remove(redoOffsets.size() - 1));
+        }
+    }
+
+    @Override
+    public List<Snapshot> readRedoHistory() throws DataLoadingException {
+        List<Snapshot> redoHistory = new ArrayList<>(redoOffsets.size());
+        for (long offset : redoOffsets) {
+            redoHistory.add(read(offset));
+        }
+        return redoHistory;
+    }
+
+    @Override
+    public int size() {
+        return spilledCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The oldest commands in memory are already in the journal, so they are not written again.
+     */
+    @Override
+    public void push(Snapshot snapshot) {
+        requireNonNull(snapshot);
+        if (spilledCount < undoOffsets.size()) {
+            spilledCount++;
+        }
+    }
+
+    @Override
+    public Snapshot pop() throws DataLoadingException {
+        if (spilledCount == 0) {
+            throw new IllegalStateException("No snapshot has been spilled.");
+        }
+        spilledCount--;
+        return read(undoOffsets.get(spilledCount));
+    }
+
+    @Override
+    public void clear() throws IOException {
+        undoOffsets.clear();
+        redoOffsets.clear();
+        spilledCount = 0;
+        endOffset = 0;
+        Files.deleteIfExists(filePath);
+    }
+
+    /**
+     * Appends a frame of {@code type} and {@code payload} to the journal, and returns its offset.
+     */
+    private long append(byte type, byte[] payload) throws IOException {
+        ByteBuffer buffer = frame(type, payload);
+        FileUtil.createIfMissing(filePath);
+        long offset = endOffset;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            long position = offset;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.force(false);
+        }
+        endOffset += HEADER_LENGTH + payload.length;
+        return offset;
+    }
+
+    /**
+     * Reads back the recorded command of the frame at {@code offset}.
+     */
+    private Snapshot read(long offset) throws DataLoadingException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(channel, offset, HEADER_LENGTH);
+            byte type = header.get();
+            int payloadLength = header.getInt();
+            int checksum = header.getInt();
+            if (payloadLength < 0 || payloadLength > channel.size() - offset - HEADER_LENGTH) {
+                throw new IOException("Undo journal " + filePath + " is damaged at offset " + offset + ".");
+            }
+            byte[] payload = readFully(channel, offset + HEADER_LENGTH, payloadLength).array();
+            if (type != TYPE_RECORDED || checksum != checksum(type, payload)) {
+                throw new IOException("Undo journal " + filePath + " is damaged at offset " + offset + ".");
+            }
+            String json = new String(payload, StandardCharsets.UTF_8);
+            return JsonUtil.fromJsonString(json, JsonAdaptedSnapshot.class).toModelType();
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException("Undo journal " + filePath + " ended unexpectedly.");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static int checksum(byte type, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.tassist.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.tassist.commons.core.LogsCenter;
+import seedu.tassist.commons.exceptions.DataLoadingException;
+import seedu.tassist.commons.exceptions.IllegalValueException;
+import seedu.tassist.model.ReadOnlyAddressBook;
+import seedu.tassist.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in an embedded key-value store on the hard disk.
+ * Each person is stored under its matriculation number, so a save only writes the persons added or changed
+ * since the last save, and deletes the persons removed, as one transaction of the {@code KeyValueStore}.
+ * The persons are read back in the order of their records, which follows the order of the address book.
+ * If the store file does not exist yet, the address book is read from a legacy storage instead, if any.
+ */
+public class KeyValueAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".kv";
+    public static final String MESSAGE_MISMATCHED_KEY = "Record %s holds the person %s";
+
+    private static final Logger logger = LogsCenter.getLogger(KeyValueAddressBookStorage.class);
+
+    private final Path filePath;
+    // The storage read from while the store file does not exist, if any.
+    private final AddressBookStorage legacyStorage;
+
+    // Guarded by this. The store at filePath, once opened, and the persons it holds by their keys,
+    // in the order of the store, if known.
+    private KeyValueStore store = null;
+    private Map<String, Person> savedPersons = null;
+
+    public KeyValueAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.legacyStorage = null;
+    }
+
+    /**
+     * Creates a {@code KeyValueAddressBookStorage} at {@code filePath} that reads from {@code legacyStorage}
+     * while the file does not exist.
+     */
+    public KeyValueAddressBookStorage(Path filePath, AddressBookStorage legacyStorage) {
+        requireNonNull(filePath);
+        requireNonNull(legacyStorage);
+        this.filePath = filePath;
+        this.legacyStorage = legacyStorage;
+    }
+
+    /**
+     * Returns the path of the store file kept beside the address book file at {@code filePath},
+     * with the same name but the {@value #FILE_EXTENSION} extension.
+     */
+    public static Path getKeyValueFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    private static String getKey(Person person) {
+        return person.getMatNum().value;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The legacy storage is only read from in place of the store file of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (!Files.exists(filePath) && !(isOwnFile && store != null)) {
+            if (isOwnFile && legacyStorage != null) {
+                logger.info("Key-value store " + filePath + " not found. Reading from "
+                        + legacyStorage.getAddressBookFilePath() + " instead.");
+                return legacyStorage.readAddressBook();
+            }
+            return Optional.empty();
+        }
+
+        try {
+            Map<String, Person> persons;
+            if (isOwnFile) {
+                persons = readPersons(getStore());
+                savedPersons = persons;
+            } else {
+                try (KeyValueStore otherStore = KeyValueStore.open(filePath)) {
+                    persons = readPersons(otherStore);
+                }
+            }
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(new ArrayList<>(persons.values())));
+        } catch (IOException e) {
+            logger.warning("Error reading from key-value store " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the store at the file path of this storage, opening it if it is not open yet.
+     */
+    private KeyValueStore getStore() throws IOException {
+        if (store == null) {
+            store = KeyValueStore.open(filePath);
+        }
+        return store;
+    }
+
+    /**
+     * Returns every person in {@code store} by its key, in the order of the store.
+     */
+    private static Map<String, Person> readPersons(KeyValueStore store) throws IOException, IllegalValueException {
+        BinaryAddressBookCodec.PersonDecoder decoder = BinaryAddressBookCodec.newRecordDecoder();
+        Map<String, Person> persons = new LinkedHashMap<>();
+        for (Map.Entry<String, ByteBuffer> record : store.readAll().entrySet()) {
+            Person person = BinaryAddressBookCodec.decodeRecord(record.getValue(), decoder);
+            if (!getKey(person).equals(record.getKey())) {
+                throw new IOException(String.format(MESSAGE_MISMATCHED_KEY, record.getKey(), getKey(person)));
+            }
+            persons.put(record.getKey(), person);
+        }
+        return persons;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any other file than that of this storage writes every person to a new store file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            Map<String, ByteBuffer> records = new LinkedHashMap<>();
+            for (Person person : addressBook.getPersonList()) {
+                records.put(getKey(person), ByteBuffer.wrap(BinaryAddressBookCodec.encodeRecord(person)));
+            }
+            KeyValueStore.write(filePath, records);
+            return;
+        }
+
+        KeyValueStore ownStore = getStore();
+        if (savedPersons == null) {
+            // The store has not been read, so every person in it is taken to differ from those being saved.
+            savedPersons = new LinkedHashMap<>();
+            ownStore.getKeys().forEach(key -> savedPersons.put(key, null));
+        }
+
+        List<String> keys = new ArrayList<>();
+        Map<String, byte[]> upserts = new LinkedHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            String key = getKey(person);
+            keys.add(key);
+            if (!person.equals(savedPersons.get(key))) {
+                upserts.put(key, BinaryAddressBookCodec.encodeRecord(person));
+            }
+        }
+        Set<String> deletes = new HashSet<>(savedPersons.keySet());
+        deletes.removeAll(keys);
+
+        Map<String, Person> persons = new LinkedHashMap<>();
+        addressBook.getPersonList().forEach(person -> persons.put(getKey(person), person));
+        // Cleared first, so that the next save rewrites every person if this one fails halfway.
+        savedPersons = null;
+        ownStore.commit(upserts, deletes);
+        // Records of new persons go after those of existing ones, so persons inserted or moved within the
+        // address book, rather than added at its end, need the records rewritten in order.
+        if (!ownStore.getKeys().equals(keys) || ownStore.hasMostlyReplacedValues()) {
+            ownStore.compact(keys);
+        }
+        savedPersons = persons;
+        logger.fine("Saved " + upserts.size() + " changed and deleted " + deletes.size() + " persons in "
+                + filePath);
+    }
+
+}
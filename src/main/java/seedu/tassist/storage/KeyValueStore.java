@@ -0,0 +1,348 @@
+package seedu.tassist.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.tassist.commons.core.LogsCenter;
+import seedu.tassist.commons.util.FileUtil;
+
+/**
+ * An embedded key-value store kept in a single file, mapping string keys to byte values.
+ * The file is a log: every change is appended to it as a record, and the changes of one call to
+ * {@link #commit} form a transaction, which ends with a checksum and is forced to the disk as a whole.
+ * Opening the store replays the log into an in-memory index of where the latest value of each key is.
+ * A transaction that is not complete, such as one cut short by a crash, is discarded on opening.
+ * Keys keep the order in which they were first put. As replaced values pile up in the log,
+ * {@link #compact} rewrites the file with only the latest values, in a given order.
+ */
+class KeyValueStore implements Closeable {
+
+    static final int MAGIC = 0x5441534B; // "TASK"
+    static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(KeyValueStore.class);
+
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final byte COMMIT = 3;
+    // The log is only compacted once it holds this many bytes of replaced values, and more of them than live ones.
+    private static final long MIN_REPLACED_BYTES_TO_COMPACT = 64 * 1024;
+
+    private final Path filePath;
+    private final Map<String, ValueLocation> index = new LinkedHashMap<>();
+    private FileChannel channel;
+    private long endPosition;
+    private long liveBytes;
+
+    private KeyValueStore(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Opens the store in {@code filePath}, creating an empty one if the file does not exist.
+     *
+     * @throws IOException if the file could not be read or is not a key-value store file of this version.
+     */
+    static KeyValueStore open(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            write(filePath, new LinkedHashMap<>());
+        }
+
+        KeyValueStore store = new KeyValueStore(filePath);
+        store.channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            store.replay();
+        } catch (IOException e) {
+            store.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * Writes a store holding just {@code entries}, in order, to {@code filePath},
+     * replacing the file only once all are written.
+     */
+    static void write(Path filePath, Map<String, ByteBuffer> entries) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(entries);
+        FileUtil.createParentDirsOfFile(filePath);
+        Transaction transaction = new Transaction();
+        for (Map.Entry<String, ByteBuffer> entry : entries.entrySet()) {
+            transaction.put(entry.getKey(), entry.getValue());
+        }
+        byte[] records = transaction.toBytes();
+
+        FileUtil.writeToFile(filePath, out -> {
+            out.write(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(FORMAT_VERSION).array());
+            out.write(records);
+        });
+    }
+
+    /**
+     * Reads every complete transaction in the file into the index,
+     * and cuts off whatever follows the last of them.
+     */
+    private void replay() throws IOException {
+        long fileSize = channel.size();
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        if (fileSize < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a key-value store file");
+        }
+        int version = buffer.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported key-value store version " + version);
+        }
+
+        endPosition = HEADER_SIZE;
+        // The changes of the transaction being read, applied in order once it is known to be complete.
+        List<String> pendingKeys = new ArrayList<>();
+        List<ValueLocation> pendingLocations = new ArrayList<>();
+        CRC32 checksum = new CRC32();
+        try {
+            while (buffer.hasRemaining()) {
+                int recordStart = buffer.position();
+                byte type = buffer.get();
+                if (type == COMMIT) {
+                    long expectedChecksum = Integer.toUnsignedLong(buffer.getInt());
+                    // The transaction starts right after the last one committed.
+                    checksum.update(buffer.duplicate().position((int) endPosition).limit(recordStart));
+                    if (checksum.getValue() != expectedChecksum) {
+                        break;
+                    }
+                    for (int i = 0; i < pendingKeys.size(); i++) {
+                        apply(pendingKeys.get(i), pendingLocations.get(i));
+                    }
+                    pendingKeys.clear();
+                    pendingLocations.clear();
+                    checksum.reset();
+                    endPosition = buffer.position();
+                    continue;
+                }
+
+                String key = readKey(buffer);
+                if (type == PUT) {
+                    int valueLength = buffer.getInt();
+                    if (valueLength < 0 || valueLength > buffer.remaining()) {
+                        break;
+                    }
+                    pendingKeys.add(key);
+                    pendingLocations.add(new ValueLocation(buffer.position(), valueLength));
+                    buffer.position(buffer.position() + valueLength);
+                } else if (type == DELETE) {
+                    pendingKeys.add(key);
+                    pendingLocations.add(null);
+                } else {
+                    break;
+                }
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            // The last transaction was cut short.
+        }
+
+        if (endPosition < fileSize) {
+            logger.warning("Discarding " + (fileSize - endPosition) + " bytes of incomplete changes at the end of "
+                    + filePath);
+            channel.truncate(endPosition);
+        }
+        channel.position(endPosition);
+    }
+
+    private static String readKey(ByteBuffer buffer) {
+        int keyLength = buffer.getInt();
+        if (keyLength < 0 || keyLength > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid key length " + keyLength);
+        }
+        byte[] key = new byte[keyLength];
+        buffer.get(key);
+        return new String(key, UTF_8);
+    }
+
+    /**
+     * Points {@code key} at {@code location} in the index, or removes it if {@code location} is null.
+     */
+    private void apply(String key, ValueLocation location) {
+        ValueLocation replaced = location == null ? index.remove(key) : index.put(key, location);
+        if (replaced != null) {
+            liveBytes -= replaced.length;
+        }
+        if (location != null) {
+            liveBytes += location.length;
+        }
+    }
+
+    /**
+     * Returns the keys in the store, in the order they were first put.
+     */
+    List<String> getKeys() {
+        return new ArrayList<>(index.keySet());
+    }
+
+    /**
+     * Returns every value in the store by its key, in the order the keys were first put.
+     * The values are read-only views of the file, which stay valid after later changes to the store.
+     */
+    Map<String, ByteBuffer> readAll() throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, endPosition);
+        Map<String, ByteBuffer> values = new LinkedHashMap<>();
+        index.forEach((key, location) -> values.put(key,
+                buffer.duplicate().position((int) location.position).limit((int) location.position + location.length)
+                        .slice()));
+        return values;
+    }
+
+    /**
+     * Puts each of {@code puts}, in order, and deletes each of {@code deletes}, as one transaction
+     * that is forced to the disk before this returns.
+     */
+    void commit(Map<String, byte[]> puts, Collection<String> deletes) throws IOException {
+        requireNonNull(puts);
+        requireNonNull(deletes);
+        if (puts.isEmpty() && deletes.isEmpty()) {
+            return;
+        }
+
+        Transaction transaction = new Transaction();
+        for (String key : deletes) {
+            transaction.delete(key);
+        }
+        for (Map.Entry<String, byte[]> put : puts.entrySet()) {
+            transaction.put(put.getKey(), ByteBuffer.wrap(put.getValue()));
+        }
+        ByteBuffer records = ByteBuffer.wrap(transaction.toBytes());
+        while (records.hasRemaining()) {
+            channel.write(records, endPosition + records.position());
+        }
+        channel.force(true);
+
+        for (String key : deletes) {
+            apply(key, null);
+        }
+        for (Map.Entry<String, Long> valuePosition : transaction.getValuePositions().entrySet()) {
+            apply(valuePosition.getKey(), new ValueLocation(endPosition + valuePosition.getValue(),
+                    puts.get(valuePosition.getKey()).length));
+        }
+        endPosition += records.limit();
+    }
+
+    /**
+     * Returns true if most of the log is taken up by values that have since been replaced or deleted.
+     */
+    boolean hasMostlyReplacedValues() {
+        long replacedBytes = endPosition - HEADER_SIZE - liveBytes;
+        return replacedBytes >= MIN_REPLACED_BYTES_TO_COMPACT && replacedBytes > liveBytes;
+    }
+
+    /**
+     * Rewrites the file with only the latest value of each key, with the keys in {@code keyOrder} first,
+     * in that order, followed by the others in their current order.
+     */
+    void compact(List<String> keyOrder) throws IOException {
+        requireNonNull(keyOrder);
+        Map<String, ByteBuffer> values = readAll();
+        Map<String, ByteBuffer> orderedValues = new LinkedHashMap<>();
+        for (String key : keyOrder) {
+            ByteBuffer value = values.remove(key);
+            if (value != null) {
+                orderedValues.put(key, value);
+            }
+        }
+        orderedValues.putAll(values);
+
+        write(filePath, orderedValues);
+        channel.close();
+        index.clear();
+        liveBytes = 0;
+        channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        replay();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Where a value is in the file.
+     */
+    private static class ValueLocation {
+        private final long position;
+        private final int length;
+
+        ValueLocation(long position, int length) {
+            this.position = position;
+            this.length = length;
+        }
+    }
+
+    /**
+     * The records of a transaction, laid out as they are appended to the file:
+     * each put is its type, key and value, each delete its type and key, both with their lengths,
+     * and the transaction ends with a commit record holding the CRC-32 of all the records before it.
+     */
+    private static class Transaction {
+        private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(records);
+        private final Map<String, Long> valuePositions = new LinkedHashMap<>();
+
+        void put(String key, ByteBuffer value) throws IOException {
+            out.writeByte(PUT);
+            writeKey(key);
+            out.writeInt(value.remaining());
+            valuePositions.remove(key);
+            valuePositions.put(key, (long) out.size());
+            byte[] valueBytes = new byte[value.remaining()];
+            value.duplicate().get(valueBytes);
+            out.write(valueBytes);
+        }
+
+        void delete(String key) throws IOException {
+            out.writeByte(DELETE);
+            writeKey(key);
+            valuePositions.remove(key);
+        }
+
+        private void writeKey(String key) throws IOException {
+            byte[] keyBytes = key.getBytes(UTF_8);
+            out.writeInt(keyBytes.length);
+            out.write(keyBytes);
+        }
+
+        /**
+         * Returns the position of the latest value of each key put, relative to the start of the transaction.
+         */
+        Map<String, Long> getValuePositions() {
+            return valuePositions;
+        }
+
+        byte[] toBytes() throws IOException {
+            CRC32 checksum = new CRC32();
+            checksum.update(records.toByteArray());
+            out.writeByte(COMMIT);
+            out.writeInt((int) checksum.getValue());
+            out.flush();
+            return records.toByteArray();
+        }
+    }
+}
@@ -32,4 +32,11 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     Optional<ReadOnlyAddressBook> readAddressBookFromCsv(Path filePath) throws DataLoadingException;
 
     void saveAddressBookToCsv(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+    /**
+     * Writes any address book saved but not yet written to the data file, and waits until it is written.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flush() throws IOException;
 }
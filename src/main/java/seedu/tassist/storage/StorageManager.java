@@ -104,4 +104,11 @@ public class StorageManager implements Storage {
         tempCsvStorage.saveAddressBook(addressBook);
     }
 
+    /**
+     * Does nothing, as every address book is written as soon as it is saved.
+     */
+    @Override
+    public void flush() {
+    }
+
 }
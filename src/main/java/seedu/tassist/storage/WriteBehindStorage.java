@@ -0,0 +1,215 @@
+package seedu.tassist.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tassist.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.tassist.commons.core.LogsCenter;
+import seedu.tassist.commons.core.SaveDurability;
+import seedu.tassist.commons.exceptions.DataLoadingException;
+import seedu.tassist.model.AddressBookView;
+import seedu.tassist.model.ReadOnlyAddressBook;
+import seedu.tassist.model.ReadOnlyUserPrefs;
+import seedu.tassist.model.UserPrefs;
+
+/**
+ * A {@code Storage} that saves the address book to its data file on a background thread.
+ * Each save only takes an immutable view of the address book, so commands are not held up by the write.
+ * Saves made before the pending one is written are coalesced, so that only the latest address book is written.
+ * How soon a save is written is set by its {@code SaveDurability}.
+ * A write that fails in the background is logged and tried again with the next save, and is only reported by
+ * {@link #flush()}, so that it is not blamed on the command that happens to save next.
+ * Saves to other files, such as exports, and all other operations go straight to the wrapped storage.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final SaveDurability durability;
+    private final long groupCommitInterval;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this. The latest address book that has not been written yet, if any.
+    private ReadOnlyAddressBook pendingAddressBook = null;
+    private boolean isWriteScheduled = false;
+    private IOException writeFailure = null;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that saves to {@code storage}.
+     *
+     * @param groupCommitInterval How long, in milliseconds, saves are gathered before they are written together,
+     *     if {@code durability} is {@code GROUP_COMMIT}.
+     */
+    public WriteBehindStorage(Storage storage, SaveDurability durability, long groupCommitInterval) {
+        requireNonNull(storage);
+        requireNonNull(durability);
+        checkArgument(groupCommitInterval > 0, UserPrefs.MESSAGE_GROUP_COMMIT_INTERVAL_CONSTRAINTS);
+        this.storage = storage;
+        this.durability = durability;
+        this.groupCommitInterval = groupCommitInterval;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        if (filePath.equals(getAddressBookFilePath())) {
+            try {
+                flush();
+            } catch (IOException e) {
+                throw new DataLoadingException(e);
+            }
+        }
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The address book may only be written after this returns, unless saving every command.
+     *
+     * @throws IOException if saving every command and the address book could not be written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook view = AddressBookView.of(addressBook);
+        synchronized (this) {
+            pendingAddressBook = view;
+        }
+
+        if (durability == SaveDurability.EVERY_COMMAND) {
+            flush();
+            return;
+        }
+        if (durability == SaveDurability.GROUP_COMMIT) {
+            scheduleWrite();
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookFromCsv(Path filePath) throws DataLoadingException {
+        return storage.readAddressBookFromCsv(filePath);
+    }
+
+    @Override
+    public void saveAddressBookToCsv(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBookToCsv(addressBook, filePath);
+    }
+
+    /**
+     * Writes the pending address book, if any, and waits until it is written.
+     *
+     * @throws IOException if the address book could not be written, now or by an earlier background write
+     *     that has not been made good since.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving the address book.", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        IOException failure;
+        synchronized (this) {
+            failure = writeFailure;
+            writeFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private synchronized void scheduleWrite() {
+        if (isWriteScheduled) {
+            return;
+        }
+        isWriteScheduled = true;
+        writer.schedule(this::writePending, groupCommitInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the pending address book, if any. Only runs on the writer thread.
+     */
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            isWriteScheduled = false;
+            addressBook = pendingAddressBook;
+            pendingAddressBook = null;
+        }
+        if (addressBook == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(addressBook);
+            synchronized (this) {
+                // The latest address book is written, so an earlier failure no longer matters.
+                writeFailure = null;
+            }
+        } catch (IOException | RuntimeException e) {
+            // A scheduled write has no caller to throw to, so any failure is logged and kept for the next flush.
+            logger.warning("Address book could not be saved: " + e);
+            synchronized (this) {
+                // Tries again with the next save, unless a newer address book has been saved already.
+                if (pendingAddressBook == null) {
+                    pendingAddressBook = addressBook;
+                }
+                writeFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+            }
+        }
+    }
+}
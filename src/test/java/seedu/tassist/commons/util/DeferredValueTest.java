@@ -0,0 +1,43 @@
+package seedu.tassist.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.tassist.testutil.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class DeferredValueTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> DeferredValue.of(null));
+    }
+
+    @Test
+    public void defer_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> DeferredValue.defer(null));
+    }
+
+    @Test
+    public void get_computedValue_returnsValue() {
+        assertEquals("value", DeferredValue.of("value").get());
+    }
+
+    @Test
+    public void get_readTwice_computedOnlyOnFirstRead() {
+        AtomicInteger computeCount = new AtomicInteger();
+        DeferredValue<String> value = DeferredValue.defer(() -> "value" + computeCount.incrementAndGet());
+        assertEquals(0, computeCount.get());
+
+        assertEquals("value1", value.get());
+        assertEquals("value1", value.get());
+        assertEquals(1, computeCount.get());
+    }
+
+    @Test
+    public void get_supplierReturnsNull_throwsNullPointerException() {
+        DeferredValue<String> value = DeferredValue.defer(() -> null);
+        assertThrows(NullPointerException.class, value::get);
+    }
+}
@@ -1,13 +1,24 @@
 package seedu.tassist.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tassist.testutil.Assert.assertThrows;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // Valid path.
@@ -20,4 +31,46 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContent() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old content that is longer");
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        // The temporary file is moved into place, not left behind.
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void writeToFile_gzipExtension_compressed() throws Exception {
+        Path file = testFolder.resolve("file.json.gz");
+        String content = "repeated content ".repeat(1000);
+        FileUtil.writeToFile(file, content);
+
+        assertTrue(Files.size(file) < content.length() / 10);
+        byte[] bytes = Files.readAllBytes(file);
+        assertEquals(GZIPInputStream.GZIP_MAGIC, (bytes[0] & 0xff) | ((bytes[1] & 0xff) << 8));
+        try (InputStream in = FileUtil.newInputStream(file)) {
+            assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void newInputStream_compressedWithoutGzipExtension_decompressed() throws Exception {
+        Path compressedFile = testFolder.resolve("file.json.gz");
+        FileUtil.writeToFile(compressedFile, "content");
+        Path renamedFile = Files.move(compressedFile, testFolder.resolve("file.json"));
+        try (InputStream in = FileUtil.newInputStream(renamedFile)) {
+            assertEquals("content", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // Plain files, including those too short to hold the magic bytes, are read as they are.
+        FileUtil.writeToFile(renamedFile, "c");
+        try (InputStream in = FileUtil.newInputStream(renamedFile)) {
+            assertEquals("c", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertFalse(FileUtil.isGzipFile(renamedFile));
+        assertTrue(FileUtil.isGzipFile(testFolder.resolve("FILE.CSV.GZ")));
+    }
 }
@@ -0,0 +1,118 @@
+package seedu.tassist.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tassist.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentHashMapTest {
+
+    @Test
+    public void put_nullKeyOrValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentHashMap.empty().put(null, "a"));
+        assertThrows(NullPointerException.class, () -> PersistentHashMap.empty().put("a", null));
+    }
+
+    @Test
+    public void updates_doNotAffectEarlierVersions() {
+        PersistentHashMap<String, Integer> original = PersistentHashMap.<String, Integer>empty().put("a", 1);
+        PersistentHashMap<String, Integer> added = original.put("b", 2);
+        PersistentHashMap<String, Integer> replaced = added.put("a", 3);
+        PersistentHashMap<String, Integer> removed = replaced.remove("b");
+
+        assertEquals(1, original.size());
+        assertFalse(original.containsKey("b"));
+        assertEquals(1, added.get("a"));
+        assertEquals(2, replaced.size());
+        assertEquals(3, replaced.get("a"));
+        assertEquals(1, removed.size());
+        assertNull(removed.get("b"));
+    }
+
+    @Test
+    public void unchangedUpdates_returnSameMap() {
+        Integer value = 1;
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().put("a", value);
+        assertSame(map, map.put("a", value));
+        assertSame(map, map.remove("b"));
+    }
+
+    @Test
+    public void collidingKeys_storedSeparately() {
+        PersistentHashMap<CollidingKey, String> map = PersistentHashMap.empty();
+        for (int i = 0; i < 5; i++) {
+            map = map.put(new CollidingKey(i), "value" + i);
+        }
+        map = map.put(new CollidingKey(100, 7), "other");
+        assertEquals(6, map.size());
+        assertEquals("value3", map.get(new CollidingKey(3)));
+
+        for (int i = 0; i < 5; i++) {
+            map = map.remove(new CollidingKey(i));
+        }
+        assertEquals(1, map.size());
+        assertEquals("other", map.get(new CollidingKey(100, 7)));
+        assertTrue(map.remove(new CollidingKey(100, 7)).isEmpty());
+    }
+
+    @Test
+    public void randomUpdates_matchHashMap() {
+        Random random = new Random(42);
+        Map<CollidingKey, Integer> expected = new HashMap<>();
+        PersistentHashMap<CollidingKey, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < 5000; i++) {
+            CollidingKey key = new CollidingKey(random.nextInt(500), random.nextInt(300));
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int id = 0; id < 500; id++) {
+            for (int hash = 0; hash < 300; hash += 50) {
+                CollidingKey key = new CollidingKey(id, hash);
+                assertEquals(expected.get(key), map.get(key));
+            }
+        }
+    }
+
+    /**
+     * A key whose hash code is chosen by the test, so that distinct keys can share a hash code.
+     */
+    private static class CollidingKey {
+        private final int id;
+        private final int hash;
+
+        CollidingKey(int id) {
+            this(id, 0);
+        }
+
+        CollidingKey(int id, int hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CollidingKey && ((CollidingKey) other).id == id
+                    && ((CollidingKey) other).hash == hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.tassist.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tassist.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        PersistentVector<String> vector = PersistentVector.empty();
+        assertTrue(vector.isEmpty());
+        assertEquals(0, vector.size());
+        assertFalse(vector.iterator().hasNext());
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(0));
+    }
+
+    @Test
+    public void add_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentVector.empty().add(null));
+    }
+
+    @Test
+    public void updates_doNotAffectEarlierVersions() {
+        PersistentVector<String> original = PersistentVector.of(List.of("a", "b", "c"));
+        PersistentVector<String> appended = original.add("d");
+        PersistentVector<String> replaced = original.set(1, "x");
+        PersistentVector<String> removed = original.remove(0);
+
+        assertEquals(List.of("a", "b", "c"), toList(original));
+        assertEquals(List.of("a", "b", "c", "d"), toList(appended));
+        assertEquals(List.of("a", "x", "c"), toList(replaced));
+        assertEquals(List.of("b", "c"), toList(removed));
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                expected.add(i);
+                vector = vector.add(i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                vector = vector.set(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.remove(index);
+            }
+        }
+
+        assertEquals(expected, toList(vector));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), vector.get(i));
+        }
+    }
+
+    private static <E> List<E> toList(PersistentVector<E> vector) {
+        List<E> elements = new ArrayList<>();
+        vector.forEach(elements::add);
+        assertEquals(vector.size(), elements.size());
+        return elements;
+    }
+}
@@ -10,6 +10,9 @@ import static seedu.tassist.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,10 +22,20 @@ import seedu.tassist.commons.core.GuiSettings;
 import seedu.tassist.logic.Messages;
 import seedu.tassist.logic.commands.exceptions.CommandException;
 import seedu.tassist.model.AddressBook;
+import seedu.tassist.model.Delta;
+import seedu.tassist.model.MergeSummary;
 import seedu.tassist.model.Model;
+import seedu.tassist.model.PersonTextIndex;
 import seedu.tassist.model.ReadOnlyAddressBook;
 import seedu.tassist.model.ReadOnlyUserPrefs;
+import seedu.tassist.model.person.Faculty;
+import seedu.tassist.model.person.LabGroup;
+import seedu.tassist.model.person.LabSchema;
+import seedu.tassist.model.person.MatNum;
 import seedu.tassist.model.person.Person;
+import seedu.tassist.model.person.PersonListVersion;
+import seedu.tassist.model.person.TutGroup;
+import seedu.tassist.model.person.Year;
 import seedu.tassist.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -129,6 +142,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public MergeSummary mergeAddressBook(ReadOnlyAddressBook addressBook, boolean isPruning) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -139,6 +157,81 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> findByMatNum(MatNum matNum) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getFilteredPersonsInTutGroup(TutGroup tutGroup) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsByTutGroup(Predicate<TutGroup> tutGroupPredicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsByLabGroup(Predicate<LabGroup> labGroupPredicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsByFaculty(Predicate<Faculty> facultyPredicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsByYear(Predicate<Year> yearPredicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<MatNum>> findCandidatesContaining(PersonTextIndex.Field field, String substring) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonListVersion getPersonListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LabSchema getLabSchema() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setLabMaxScore(int labNumber, int maxScore) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setChangeJournal(Delta journal) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyDelta(Delta delta, boolean isUndo) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getHighestLabScore(int labNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getHighestLabScoreExcluding(int labNumber, Person excludedPerson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -15,10 +15,14 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.tassist.model.AddressBook;
 import seedu.tassist.model.Model;
 import seedu.tassist.model.ModelManager;
 import seedu.tassist.model.UserPrefs;
+import seedu.tassist.storage.CsvAddressBookStorage;
+import seedu.tassist.storage.JsonAddressBookStorage;
 
 public class ExportDataCommandTest {
 
@@ -26,6 +30,9 @@ public class ExportDataCommandTest {
     private static final String INVALID_FILE_EXTENSION = ".txt";
     private static final String VALID_EXPORT_FILE = "./data/tassist_data";
 
+    @TempDir
+    public Path testFolder;
+
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
 
     @Test
@@ -37,6 +44,28 @@ public class ExportDataCommandTest {
                 commandResult.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_compressedFiles_readBackByStorages() throws Exception {
+        Path jsonPath = testFolder.resolve("tassist_data.json.gz");
+        Path csvPath = testFolder.resolve("tassist_data.csv.gz");
+        new ExportDataCommand(jsonPath).execute(model);
+        new ExportDataCommand(csvPath).execute(model);
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(jsonPath).readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new CsvAddressBookStorage(csvPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_compressedInvalidFileExtension_failure() {
+        String expectedMessage = String.format(FILE_SAVE_ERROR,
+                String.format(INVALID_ARGUMENT_EXTENSION, INVALID_FILE_EXTENSION));
+
+        assertCommandFailure(new ExportDataCommand(testFolder.resolve("tassist_data" + INVALID_FILE_EXTENSION + ".gz")),
+                model, expectedMessage);
+    }
+
     @Test
     public void execute_invalidFileExtension_failure() {
         String expectedMessage = String.format(FILE_SAVE_ERROR,
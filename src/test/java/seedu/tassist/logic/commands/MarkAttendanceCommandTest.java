@@ -620,6 +620,31 @@ public class MarkAttendanceCommandTest {
 
     }
 
+    @Test
+    public void execute_markTutGroupsGivenOutOfOrder_markedInDisplayedOrder() {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        StringBuilder expectedMessage = new StringBuilder();
+        List<TutGroup> tutGroupsToEdit = Arrays.asList(new TutGroup("T02"), new TutGroup("T01"));
+        int weekToEdit = 3;
+        expectedMessage.append(String.format(MESSAGE_MARK_TUT_GROUP_NOT_ATTENDED_SUCCESS,
+                "T02, T01", weekToEdit)).append("\n-------------\n");
+        for (Person person : model.getFilteredPersonList()) {
+            if (tutGroupsToEdit.contains(person.getTutGroup())) {
+                Person editedPerson = new PersonBuilder(person).withAttendanceList(replaceAttendanceString(
+                        person.getAttendanceList().toString(), weekToEdit, Attendance.NOT_ATTENDED)).build();
+                expectedModel.setPerson(person, editedPerson);
+                expectedMessage.append(String.format(MESSAGE_MARK_NOT_ATTENDED_SUCCESS,
+                        editedPerson.getName(), editedPerson.getMatNum(), weekToEdit)).append("\n");
+            }
+        }
+
+        MarkAttendanceCommand command = new MarkAttendanceCommand(
+                weekToEdit, Attendance.NOT_ATTENDED, tutGroupsToEdit);
+
+        assertCommandSuccess(command, model, expectedMessage.toString(), expectedModel);
+    }
+
     @Test
     public void execute_markMultipleTutGroupsNotAttendedWeek5UnfilteredList_success() {
         // Other value: week 5.
@@ -15,19 +15,31 @@ import static seedu.tassist.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.tassist.model.AddressBook;
+import seedu.tassist.model.Delta;
+import seedu.tassist.model.MergeSummary;
 import seedu.tassist.model.Model;
 import seedu.tassist.model.ModelManager;
+import seedu.tassist.model.PersonTextIndex;
 import seedu.tassist.model.ReadOnlyAddressBook;
 import seedu.tassist.model.ReadOnlyUserPrefs;
 import seedu.tassist.model.UserPrefs;
+import seedu.tassist.model.person.Faculty;
+import seedu.tassist.model.person.LabGroup;
+import seedu.tassist.model.person.LabSchema;
+import seedu.tassist.model.person.MatNum;
 import seedu.tassist.model.person.Person;
+import seedu.tassist.model.person.PersonListVersion;
 import seedu.tassist.model.person.PersonMatchesPredicate;
+import seedu.tassist.model.person.TutGroup;
+import seedu.tassist.model.person.Year;
 import seedu.tassist.testutil.PersonBuilder;
 
 public class SearchCommandTest {
@@ -93,6 +105,40 @@ public class SearchCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personEditedToMatch_shown() throws Exception {
+        PersonMatchesPredicate predicate = new PersonMatchesPredicate(
+                List.of("Kunz"), null, null, null, null, null, null, null, null, null);
+        new SearchCommand(predicate).execute(model);
+        assertEquals(List.of(FIONA), model.getFilteredPersonList());
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Kunz").build();
+        model.setPerson(CARL, editedCarl);
+        assertEquals(List.of(editedCarl, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_groupCriteria_onlyMatchingGroupMembersFound() {
+        PersonMatchesPredicate predicate = new PersonMatchesPredicate(
+                List.of("Meyer", "Kunz", "Kurz"), null, null, null, null, null, "T02", null, "soc", null);
+        SearchCommand command = new SearchCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(Arrays.asList(ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_substringWithinWord_personsFound() {
+        PersonMatchesPredicate predicate = new PersonMatchesPredicate(
+                Arrays.asList("urz", "ell"), null, null, null, "EXAMPLE.com", null, null, null, null, null);
+        SearchCommand command = new SearchCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         PersonMatchesPredicate predicate = new PersonMatchesPredicate(
@@ -184,11 +230,92 @@ public class SearchCommandTest {
             throw new AssertionError();
         }
 
+        @Override
+        public MergeSummary mergeAddressBook(ReadOnlyAddressBook addressBook, boolean isPruning) {
+            throw new AssertionError();
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
         }
 
+        @Override
+        public Optional<Person> findByMatNum(MatNum matNum) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public List<Person> getFilteredPersonsInTutGroup(TutGroup tutGroup) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public List<Person> getPersonsByTutGroup(Predicate<TutGroup> tutGroupPredicate) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public List<Person> getPersonsByLabGroup(Predicate<LabGroup> labGroupPredicate) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public List<Person> getPersonsByFaculty(Predicate<Faculty> facultyPredicate) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public List<Person> getPersonsByYear(Predicate<Year> yearPredicate) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public Optional<Set<MatNum>> findCandidatesContaining(PersonTextIndex.Field field, String substring) {
+            // No index is kept, so every person remains a candidate.
+            return Optional.empty();
+        }
+
+        @Override
+        public PersonListVersion getPersonListVersion() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public LabSchema getLabSchema() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void setLabMaxScore(int labNumber, int maxScore) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void setChangeJournal(Delta journal) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void applyDelta(Delta delta, boolean isUndo) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public int getHighestLabScore(int labNumber) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public int getHighestLabScoreExcluding(int labNumber, Person excludedPerson) {
+            throw new AssertionError();
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError();
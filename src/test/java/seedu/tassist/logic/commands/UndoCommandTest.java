@@ -5,15 +5,20 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static seedu.tassist.logic.commands.CommandTestUtil.DEFAULT_LAB_MAX_SCORE;
 import static seedu.tassist.logic.commands.CommandTestUtil.VALID_LAB_NUMBER_A;
 import static seedu.tassist.logic.commands.CommandTestUtil.VALID_LAB_SCORE_A;
 import static seedu.tassist.logic.parser.CliSyntax.PREFIX_INDEX;
 import static seedu.tassist.logic.parser.CliSyntax.PREFIX_LAB_NUMBER;
 import static seedu.tassist.logic.parser.CliSyntax.PREFIX_LAB_SCORE;
+import static seedu.tassist.logic.parser.CliSyntax.PREFIX_MAX_LAB_SCORE;
 import static seedu.tassist.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.tassist.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.tassist.logic.commands.exceptions.CommandException;
 import seedu.tassist.logic.parser.AddressBookParser;
@@ -22,6 +27,7 @@ import seedu.tassist.model.Model;
 import seedu.tassist.model.ModelManager;
 import seedu.tassist.model.Operations;
 import seedu.tassist.model.UserPrefs;
+import seedu.tassist.storage.JsonUndoHistorySpill;
 
 public class UndoCommandTest {
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
@@ -49,6 +55,46 @@ public class UndoCommandTest {
                 expectedModel.getFilteredPersonList().get(0).getLabScoreList());
     }
 
+    @Test
+    public void successfulUndoMaxLabScore() {
+        Operations.update(model);
+        String labCommandString = UpdateLabScoreCommand.COMMAND_WORD + " "
+                + PREFIX_LAB_NUMBER + " " + VALID_LAB_NUMBER_A + " "
+                + PREFIX_MAX_LAB_SCORE + " 30";
+        try {
+            Command command = new AddressBookParser().parseCommand(labCommandString);
+            command.execute(model);
+            assertEquals(30, model.getLabSchema().getMaxScore(VALID_LAB_NUMBER_A));
+            UndoCommand undoCommand = new UndoCommand();
+            undoCommand.execute(model);
+        } catch (CommandException | ParseException e) {
+            fail();
+        }
+
+        assertEquals(DEFAULT_LAB_MAX_SCORE, model.getLabSchema().getMaxScore(VALID_LAB_NUMBER_A));
+    }
+
+    @Test
+    public void successfulUndoBeyondHistoryBudget(@TempDir Path testFolder) {
+        Operations.update(model);
+        Operations.configureHistory(1, new JsonUndoHistorySpill(testFolder.resolve("undohistory.json")));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        try {
+            new AddressBookParser().parseCommand("edit -i 1 -n temporary").execute(model);
+            new AddressBookParser().parseCommand("del -i 2").execute(model);
+            new AddressBookParser().parseCommand("list").execute(model);
+            new UndoCommand().execute(model);
+            new UndoCommand().execute(model);
+            new UndoCommand().execute(model);
+        } catch (CommandException | ParseException e) {
+            fail();
+        } finally {
+            Operations.configureHistory(UserPrefs.DEFAULT_UNDO_HISTORY_BUDGET, null);
+        }
+
+        assertEquals(expectedModel.getAddressBook(), model.getAddressBook());
+    }
+
     @Test
     public void successfulUndoEdit() {
         Operations.update(model);
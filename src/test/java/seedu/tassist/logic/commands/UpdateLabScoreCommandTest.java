@@ -1,5 +1,6 @@
 package seedu.tassist.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.tassist.logic.commands.CommandTestUtil.DEFAULT_LAB_MAX_SCORE;
 import static seedu.tassist.logic.commands.CommandTestUtil.DEFAULT_LAB_SCORE_COUNT;
 import static seedu.tassist.logic.commands.CommandTestUtil.VALID_LAB_NUMBER_A;
@@ -8,6 +9,7 @@ import static seedu.tassist.logic.commands.CommandTestUtil.VALID_LAB_SCORE_B;
 import static seedu.tassist.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.tassist.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.tassist.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.tassist.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.tassist.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,7 @@ import seedu.tassist.commons.core.index.Index;
 import seedu.tassist.model.Model;
 import seedu.tassist.model.ModelManager;
 import seedu.tassist.model.UserPrefs;
+import seedu.tassist.model.person.LabScore;
 import seedu.tassist.model.person.LabScoreList;
 import seedu.tassist.model.person.Person;
 import seedu.tassist.testutil.PersonBuilder;
@@ -50,16 +53,11 @@ public class UpdateLabScoreCommandTest {
         String expectedMessage = String.format(UpdateLabScoreCommand.MESSAGE_UPDATE_LAB_MAX_SCORE_SUCCESS,
                 VALID_LAB_NUMBER_A, VALID_LAB_SCORE_B);
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-
-        for (int i = 0; i < expectedModel.getFilteredPersonList().size(); i++) {
-            Person person = expectedModel.getFilteredPersonList().get(i);
-            LabScoreList labScoreList = person.getLabScoreList().refreshLabScore(VALID_LAB_NUMBER_A, VALID_LAB_SCORE_B);
-            Person editedPerson = new PersonBuilder(person).withLabScores(labScoreList.toString()).build();
-            expectedModel.setPerson(person, editedPerson);
-        }
+        expectedModel.setLabMaxScore(VALID_LAB_NUMBER_A, VALID_LAB_SCORE_B);
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        model = new ModelManager(model.getAddressBook(), new UserPrefs());
+        assertEquals(VALID_LAB_SCORE_B, model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased())
+                .getLabScoreList().getLabScores().get(VALID_LAB_NUMBER_A - 1).getMaxLabScore());
     }
 
     @Test
@@ -76,30 +74,33 @@ public class UpdateLabScoreCommandTest {
                 editedFirstPerson.getLabScoreList().getLabScores().get(VALID_LAB_NUMBER_A - 1).toString());
 
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-        expectedModel.setPerson(model.getFilteredPersonList().get(0), editedFirstPerson);
-        for (int i = 1; i < expectedModel.getFilteredPersonList().size(); i++) {
-            Person person = expectedModel.getFilteredPersonList().get(i);
-            LabScoreList labScoreList = person.getLabScoreList().refreshLabScore(VALID_LAB_NUMBER_A, VALID_LAB_SCORE_B);
-            Person editedPerson = new PersonBuilder(person).withLabScores(labScoreList.toString()).build();
-            expectedModel.setPerson(person, editedPerson);
-        }
+        expectedModel.setLabMaxScore(VALID_LAB_NUMBER_A, VALID_LAB_SCORE_B);
+        expectedModel.setPerson(expectedModel.getFilteredPersonList().get(0), editedFirstPerson);
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-
-        reset(expectedModel);
     }
 
-    private void reset(Model expectedModel) {
-        // Reset to default for other test cases
-        for (int i = 0; i < model.getFilteredPersonList().size(); i++) {
-            Person person = model.getFilteredPersonList().get(i);
-            LabScoreList labScoreList = person.getLabScoreList().refreshLabScore(VALID_LAB_NUMBER_A, 25);
-            Person editedPerson = new PersonBuilder(person).withLabScores(labScoreList.toString()).build();
-            expectedModel.setPerson(person, editedPerson);
-        }
-    }
+    @Test
+    public void hiddenPersonAboveMaxScoreFail() {
+        // EP: max score below the score of a person who is not displayed
+        Person hiddenPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        model.updateFilteredPersonList(person -> !person.isSamePerson(hiddenPerson));
+        int invalidMaxScore = 5;
+        UpdateLabScoreCommand command = new UpdateLabScoreCommand(INDEX_FIRST_PERSON,
+                VALID_LAB_NUMBER_A, invalidMaxScore, true);
 
+        // The person displayed first with a score above the max score is reported by index
+        String validErrorMessage = String.format(LabScoreList.INVALID_LAB_MAX_SCORE, 2, invalidMaxScore);
+        assertCommandFailure(command, model, validErrorMessage);
 
+        // Only persons without a score are displayed, so the offending person is reported by
+        // matriculation number
+        model.updateFilteredPersonList(person ->
+                person.getLabScoreList().getScore(VALID_LAB_NUMBER_A) == LabScore.DEFAULT_SCORE);
+        validErrorMessage = String.format(UpdateLabScoreCommand.MESSAGE_HIDDEN_INVALID_LAB_MAX_SCORE,
+                hiddenPerson.getMatNum(), invalidMaxScore);
+        assertCommandFailure(command, model, validErrorMessage);
+    }
 
     @Test
     public void indexOutOfBoundFail() {
@@ -6,12 +6,15 @@ import static seedu.tassist.logic.commands.CommandTestUtil.VALID_FILE_EXTENSION_
 import static seedu.tassist.logic.commands.CommandTestUtil.VALID_FILE_NAME;
 import static seedu.tassist.logic.parser.CliSyntax.PREFIX_EXTENSION;
 import static seedu.tassist.logic.parser.CliSyntax.PREFIX_FILE_PATH;
+import static seedu.tassist.logic.parser.CliSyntax.PREFIX_MERGE;
+import static seedu.tassist.logic.parser.CliSyntax.PREFIX_PRUNE;
 import static seedu.tassist.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.tassist.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.tassist.logic.commands.LoadDataCommand;
+import seedu.tassist.logic.commands.LoadDataCommand.LoadMode;
 
 public class LoadDataCommandParserTest {
 
@@ -35,6 +38,25 @@ public class LoadDataCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_mergeFlags_success() {
+        String userInput = " " + PREFIX_FILE_PATH + " " + VALID_FILE_NAME + " "
+                + PREFIX_EXTENSION + " " + VALID_FILE_EXTENSION_CSV + " " + PREFIX_MERGE;
+        assertParseSuccess(parser, userInput,
+                new LoadDataCommand(VALID_FILE_NAME, VALID_FILE_EXTENSION_CSV, LoadMode.MERGE));
+
+        assertParseSuccess(parser, userInput + " " + PREFIX_PRUNE,
+                new LoadDataCommand(VALID_FILE_NAME, VALID_FILE_EXTENSION_CSV, LoadMode.MERGE_AND_PRUNE));
+    }
+
+    @Test
+    public void parse_pruneWithoutMerge_failure() {
+        String userInput = " " + PREFIX_FILE_PATH + " " + VALID_FILE_NAME + " "
+                + PREFIX_EXTENSION + " " + VALID_FILE_EXTENSION_CSV + " " + PREFIX_PRUNE;
+        assertParseFailure(parser, userInput,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, LoadDataCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_missingCompulsoryFields_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, LoadDataCommand.MESSAGE_USAGE);
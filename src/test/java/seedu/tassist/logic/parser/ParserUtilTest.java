@@ -5,16 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tassist.logic.Messages.MESSAGE_INVALID_INDEX;
 import static seedu.tassist.testutil.Assert.assertThrows;
 import static seedu.tassist.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
-import static seedu.tassist.testutil.TypicalPersons.ALICE;
-import static seedu.tassist.testutil.TypicalPersons.BENSON;
-import static seedu.tassist.testutil.TypicalPersons.CARL;
-import static seedu.tassist.testutil.TypicalPersons.DANIEL;
-import static seedu.tassist.testutil.TypicalPersons.ELLE;
-import static seedu.tassist.testutil.TypicalPersons.FIONA;
-import static seedu.tassist.testutil.TypicalPersons.getTypicalAddressBook;
-import static seedu.tassist.testutil.TypicalPersons.getTypicalPersons;
-
-import java.util.ArrayList;
+
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -25,15 +16,11 @@ import org.junit.jupiter.api.Test;
 
 import seedu.tassist.commons.core.index.Index;
 import seedu.tassist.logic.parser.exceptions.ParseException;
-import seedu.tassist.model.Model;
-import seedu.tassist.model.ModelManager;
-import seedu.tassist.model.UserPrefs;
 import seedu.tassist.model.person.Email;
 import seedu.tassist.model.person.Faculty;
 import seedu.tassist.model.person.LabGroup;
 import seedu.tassist.model.person.MatNum;
 import seedu.tassist.model.person.Name;
-import seedu.tassist.model.person.Person;
 import seedu.tassist.model.person.Phone;
 import seedu.tassist.model.person.Remark;
 import seedu.tassist.model.person.TeleHandle;
@@ -83,8 +70,6 @@ public class ParserUtilTest {
     private static final String VALID_TAG_1 = "friend";
     private static final String VALID_TAG_2 = "neighbour";
 
-    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
-
     @Test
     public void parseIndex_invalidInput_throwsParseException() {
         assertThrows(ParseException.class, () -> ParserUtil.parseIndex("10 a"));
@@ -383,61 +368,6 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("1"));
     }
 
-    @Test
-    public void getPersonsInTutorialGroups_nullPersonList_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () ->
-                ParserUtil.getPersonsInTutorialGroups(null, List.of(new TutGroup("T01"))));
-    }
-
-    @Test
-    public void getPersonsInTutorialGroups_nullTutGroups_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () ->
-                ParserUtil.getPersonsInTutorialGroups(getTypicalPersons(), null));
-    }
-
-    @Test
-    public void getPersonsInTutorialGroups_validListAndTutorialGroups_success() {
-        // EP: List with valid tutorial groups.
-
-        // Value: One tutorial group only.
-        // Alice, Benson, Carl and Daniel in the typical persons list are of tutorial group T01.
-        List<Person> expectedListReturned = Arrays.asList(ALICE, BENSON, CARL, DANIEL);
-        assertEquals(expectedListReturned,
-                ParserUtil.getPersonsInTutorialGroups(getTypicalPersons(), List.of(new TutGroup("T01"))));
-
-        // Value: Duplicate tutorial groups.
-        // Alice, Benson, Carl and Daniel in the typical persons list are of tutorial group T01.
-        expectedListReturned = Arrays.asList(ALICE, BENSON, CARL, DANIEL);
-        assertEquals(expectedListReturned, ParserUtil.getPersonsInTutorialGroups(
-                getTypicalPersons(), List.of(new TutGroup("T01"), new TutGroup("T01"), new TutGroup("T01"))));
-
-        // Value: Multiple tutorial groups.
-        // Alice, Benson, Carl, Daniel, Elle and Fiona in the typical persons list
-        // are of tutorial groups T01 and T02.
-        expectedListReturned = Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA);
-        assertEquals(expectedListReturned, ParserUtil.getPersonsInTutorialGroups(
-                getTypicalPersons(), List.of(new TutGroup("T01"), new TutGroup("T02"))));
-
-        // EP: List with invalid tutorial groups.
-
-        // Value: One tutorial group only.
-        // None of the Persons in provided list are in group T99 -> Returns an empty list.
-        assertEquals(new ArrayList<Person>(),
-                ParserUtil.getPersonsInTutorialGroups(getTypicalPersons(), List.of(new TutGroup("T99"))));
-
-        // Value: Multiple tutorial groups.
-        // None of the Persons in provided list are in groups T97, T98, T99 -> Returns an empty list.
-        assertEquals(new ArrayList<Person>(), ParserUtil.getPersonsInTutorialGroups(
-                getTypicalPersons(), List.of(new TutGroup("T97"), new TutGroup("T98"), new TutGroup("T99"))));
-
-        // EP: List with a mix of valid and invalid tutorial groups.
-        // Alice, Benson, Carl and Daniel in the typical persons list are of tutorial group T01.
-        // No one is in tutorial group T02.
-        expectedListReturned = Arrays.asList(ALICE, BENSON, CARL, DANIEL);
-        assertEquals(expectedListReturned, ParserUtil.getPersonsInTutorialGroups(
-                getTypicalPersons(), List.of(new TutGroup("T01"), new TutGroup("T98"), new TutGroup("T99"))));
-    }
-
     @Test
     public void parseMultipleIndexes_validInputs_success() throws Exception {
         // Single index
@@ -518,36 +448,4 @@ public class ParserUtilTest {
 
     }
 
-    @Test
-    public void getInvalidTutGroupsAsString_nullInput_throwsNullPointerException() {
-        List<Person> personList = model.getFilteredPersonList();
-        List<TutGroup> tutGroupList = new ArrayList<>();
-        assertThrows(NullPointerException.class, () ->
-                ParserUtil.getInvalidTutGroupsAsString(null, tutGroupList));
-        assertThrows(NullPointerException.class, () ->
-                ParserUtil.getInvalidTutGroupsAsString(personList, null));
-    }
-
-    @Test
-    public void getInvalidTutGroupsAsString_validInput_success() throws Exception {
-        List<Person> personList = model.getFilteredPersonList();
-        List<TutGroup> tutGroupList = new ArrayList<>();
-
-        // Valid tutorial groups only.
-        tutGroupList.add(new TutGroup("T01"));
-        assertTrue(ParserUtil.getInvalidTutGroupsAsString(personList, tutGroupList).equals(""));
-
-        // Mix of valid and invalid tutorial groups.
-        tutGroupList.add(new TutGroup("T98")); // Invalid tutorial group.
-        tutGroupList.add(new TutGroup("T99")); // Invalid tutorial group.
-        assertTrue(ParserUtil.getInvalidTutGroupsAsString(personList, tutGroupList).equals("T98, T99"));
-
-        // Invalid tutorial groups only.
-        tutGroupList = new ArrayList<>();
-        tutGroupList.add(new TutGroup("T98")); // Invalid tutorial group.
-        tutGroupList.add(new TutGroup("T99")); // Invalid tutorial group.
-        assertTrue(ParserUtil.getInvalidTutGroupsAsString(personList, tutGroupList).equals("T98, T99"));
-
-    }
-
 }
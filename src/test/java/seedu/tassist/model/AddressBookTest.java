@@ -6,8 +6,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tassist.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.tassist.testutil.Assert.assertThrows;
 import static seedu.tassist.testutil.TypicalPersons.ALICE;
+import static seedu.tassist.testutil.TypicalPersons.BENSON;
+import static seedu.tassist.testutil.TypicalPersons.CARL;
+import static seedu.tassist.testutil.TypicalPersons.ELLE;
+import static seedu.tassist.testutil.TypicalPersons.FIONA;
+import static seedu.tassist.testutil.TypicalPersons.GEORGE;
+import static seedu.tassist.testutil.TypicalPersons.HOON;
 import static seedu.tassist.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -17,7 +24,9 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.tassist.model.person.LabScore;
 import seedu.tassist.model.person.Person;
+import seedu.tassist.model.person.TutGroup;
 import seedu.tassist.model.person.exceptions.DuplicatePersonException;
 import seedu.tassist.testutil.PersonBuilder;
 
@@ -53,6 +62,16 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void setPersons_differentLabMaxScores_throwsIllegalArgumentException() {
+        Person aliceOutOfFifty = new PersonBuilder(ALICE).withLabScores("4/50|-/25|-/25|-/25").build();
+        List<Person> newPersons = Arrays.asList(BENSON, aliceOutOfFifty);
+
+        assertThrows(IllegalArgumentException.class, String.format(AddressBook.MESSAGE_INCONSISTENT_LAB_MAX_SCORES,
+                ALICE.getMatNum()), () -> addressBook.setPersons(newPersons));
+        assertEquals(Collections.emptyList(), addressBook.getPersonList());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -77,6 +96,145 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonsInTutGroup_afterMutations_tracksMembers() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Arrays.asList(ELLE, FIONA), addressBook.getPersonsInTutGroup(new TutGroup("T02")));
+
+        Person movedAlice = new PersonBuilder(ALICE).withTutGroup("T02").build();
+        addressBook.setPerson(ALICE, movedAlice);
+        addressBook.removePerson(FIONA);
+        assertEquals(Arrays.asList(ELLE, movedAlice), addressBook.getPersonsInTutGroup(new TutGroup("T02")));
+        assertFalse(addressBook.getPersonsInTutGroup(new TutGroup("T01")).contains(ALICE));
+        assertEquals(Collections.emptyList(), addressBook.getPersonsInTutGroup(new TutGroup("T40")));
+    }
+
+    @Test
+    public void getPersonsByYear_matchingYears_returnsMembersOfMatchingGroupsOnly() {
+        addressBook.resetData(getTypicalAddressBook());
+        List<Person> persons = addressBook.getPersonsByYear(year -> year.value.equals("1")
+                || year.value.equals("2"));
+        assertEquals(2, persons.size());
+        assertTrue(persons.containsAll(Arrays.asList(ALICE, BENSON)));
+    }
+
+    @Test
+    public void setLabMaxScore_sharedSchema_appliesToEveryPerson() {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.setLabMaxScore(1, 40);
+
+        for (Person person : addressBook.getPersonList()) {
+            assertEquals(40, person.getLabScoreList().getLabScores().get(0).getMaxLabScore());
+        }
+        assertEquals(25, addressBook.getHighestLabScore(1));
+        assertEquals(LabScore.DEFAULT_SCORE, addressBook.getHighestLabScore(2));
+    }
+
+    @Test
+    public void resetData_otherAddressBook_doesNotShareLabSchema() {
+        AddressBook otherAddressBook = getTypicalAddressBook();
+        addressBook.resetData(otherAddressBook);
+        addressBook.setLabMaxScore(1, 40);
+
+        assertEquals(25, otherAddressBook.getLabSchema().getMaxScore(1));
+        assertEquals("4.-/25|-/25|-/25|-/25", otherAddressBook.getPersonList().get(0).getLabScoreList().toString());
+        assertFalse(addressBook.equals(otherAddressBook));
+    }
+
+    @Test
+    public void getLabSchema_copyChanged_addressBookUnchanged() {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.getLabSchema().setMaxScore(1, 40);
+        addressBook.getPersonList().get(0).getLabScoreList().getLabSchema().setMaxScore(1, 40);
+
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertEquals(25, addressBook.getPersonList().get(1).getLabScoreList().getMaxScore(1));
+    }
+
+    @Test
+    public void addPerson_personWithOwnSchema_boundToAddressBookSchema() {
+        addressBook.setLabMaxScore(1, 40);
+        addressBook.addPerson(new PersonBuilder(ALICE).withLabScores("4.30/50|-/25|-/25|-/25").build());
+
+        assertEquals("4.30/40|-/25|-/25|-/25", addressBook.getPersonList().get(0).getLabScoreList().toString());
+    }
+
+    @Test
+    public void mergePersons_newChangedAndMissingPersons_mergedInPlace() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person editedBenson = new PersonBuilder(BENSON).withRemark("moved seats").build();
+        MergeSummary summary = addressBook.mergePersons(List.of(HOON, editedBenson, ALICE), false);
+
+        assertEquals(new MergeSummary(1, 1, 1, 0), summary);
+        List<Person> expectedPersons = new ArrayList<>(getTypicalAddressBook().getPersonList());
+        expectedPersons.set(1, editedBenson);
+        expectedPersons.add(HOON);
+        assertEquals(expectedPersons, addressBook.getPersonList());
+        assertEquals(editedBenson, addressBook.findByMatNum(BENSON.getMatNum()).get());
+    }
+
+    @Test
+    public void mergePersons_pruning_removesMissingPersons() {
+        AddressBook addressBook = getTypicalAddressBook();
+        MergeSummary summary = addressBook.mergePersons(List.of(GEORGE, CARL, HOON), true);
+
+        assertEquals(new MergeSummary(1, 0, 2, 5), summary);
+        assertEquals(List.of(CARL, GEORGE, HOON), addressBook.getPersonList());
+        assertFalse(addressBook.getPersonsInTutGroup(ALICE.getTutGroup()).contains(ALICE));
+    }
+
+    @Test
+    public void mergePersons_changes_recordedAsOneUndoableChange() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Delta delta = new Delta();
+        addressBook.setChangeJournal(delta);
+        Person editedAlice = new PersonBuilder(ALICE).withRemark("new remark").build();
+        addressBook.mergePersons(List.of(editedAlice, HOON), true);
+        addressBook.setChangeJournal(null);
+        AddressBook mergedAddressBook = new AddressBook(addressBook);
+
+        assertEquals(1, delta.getChanges().size());
+        addressBook.applyDelta(delta, true);
+        assertEquals(getTypicalAddressBook(), addressBook);
+        addressBook.applyDelta(delta, false);
+        assertEquals(mergedAddressBook, addressBook);
+    }
+
+    @Test
+    public void mergePersons_duplicateIncomingMatNums_throwsDuplicatePersonException() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person editedAlice = new PersonBuilder(ALICE).withRemark("new remark").build();
+
+        assertThrows(DuplicatePersonException.class, () ->
+                addressBook.mergePersons(List.of(ALICE, HOON, editedAlice), false));
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void mergePersons_differentLabMaxScores_throwsIllegalArgumentException() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person hoonOutOfFifty = new PersonBuilder(HOON).withLabScores("4/50|-/25|-/25|-/25").build();
+
+        assertThrows(IllegalArgumentException.class, () ->
+                addressBook.mergePersons(List.of(ALICE, hoonOutOfFifty), false));
+        assertThrows(IllegalArgumentException.class, AddressBook.MESSAGE_DIFFERENT_LAB_MAX_SCORES, () ->
+                addressBook.mergePersons(List.of(hoonOutOfFifty), false));
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void mergePersons_nothingChanged_notRecorded() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Delta delta = new Delta();
+        addressBook.setChangeJournal(delta);
+        long modificationCount = addressBook.getModificationCount();
+
+        assertEquals(new MergeSummary(0, 0, 2, 0), addressBook.mergePersons(List.of(BENSON, ALICE), false));
+        assertTrue(delta.isEmpty());
+        assertEquals(modificationCount, addressBook.getModificationCount());
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -0,0 +1,121 @@
+package seedu.tassist.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tassist.testutil.TypicalPersons.BENSON;
+import static seedu.tassist.testutil.TypicalPersons.CARL;
+import static seedu.tassist.testutil.TypicalPersons.HOON;
+import static seedu.tassist.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.tassist.model.person.LabSchema;
+import seedu.tassist.model.person.Person;
+import seedu.tassist.model.person.TutGroup;
+import seedu.tassist.testutil.PersonBuilder;
+
+public class DeltaTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final AddressBook originalAddressBook = getTypicalAddressBook();
+    private final Delta delta = new Delta();
+
+    @Test
+    public void applyDelta_personChanges_undoesAndRedoesInOrder() {
+        addressBook.setChangeJournal(delta);
+        addressBook.removePerson(BENSON);
+        addressBook.addPerson(HOON);
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Edited").build();
+        addressBook.setPerson(CARL, editedCarl);
+        addressBook.setChangeJournal(null);
+        AddressBook changedAddressBook = new AddressBook(addressBook);
+
+        addressBook.applyDelta(delta, true);
+        assertEquals(originalAddressBook, addressBook);
+        assertEquals(BENSON, addressBook.getPersonList().get(1));
+
+        addressBook.applyDelta(delta, false);
+        assertEquals(changedAddressBook, addressBook);
+    }
+
+    @Test
+    public void applyDelta_manyChanges_notifiesListenersOnce() {
+        for (int i = 0; i < AddressBook.BULK_REPLAY_THRESHOLD; i++) {
+            addressBook.addPerson(new PersonBuilder().withMatNum(String.format("A9%06d", i)).build());
+        }
+        AddressBook fullAddressBook = new AddressBook(addressBook);
+        addressBook.setChangeJournal(delta);
+        for (int i = 0; i < AddressBook.BULK_REPLAY_THRESHOLD; i++) {
+            addressBook.removePerson(addressBook.getPersonList().get(addressBook.getPersonList().size() / 2));
+        }
+        addressBook.setChangeJournal(null);
+
+        int[] changeEvents = {0};
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeEvents[0]++);
+        addressBook.applyDelta(delta, true);
+        assertEquals(1, changeEvents[0]);
+        assertEquals(fullAddressBook, addressBook);
+        TutGroup tutGroup = new PersonBuilder().build().getTutGroup();
+        assertEquals(fullAddressBook.getPersonsInTutGroup(tutGroup), addressBook.getPersonsInTutGroup(tutGroup));
+    }
+
+    @Test
+    public void applyDelta_labMaxScoreChange_restoresMaxScore() {
+        addressBook.setChangeJournal(delta);
+        addressBook.setLabMaxScore(1, 30);
+        addressBook.setChangeJournal(null);
+
+        addressBook.applyDelta(delta, true);
+        assertEquals(LabSchema.DEFAULT_MAX_SCORE, addressBook.getLabSchema().getMaxScore(1));
+        assertEquals(LabSchema.DEFAULT_MAX_SCORE,
+                addressBook.getPersonList().get(0).getLabScoreList().getLabScores().get(0).getMaxLabScore());
+
+        addressBook.applyDelta(delta, false);
+        assertEquals(30, addressBook.getLabSchema().getMaxScore(1));
+    }
+
+    @Test
+    public void applyDelta_reset_restoresWholeAddressBook() {
+        addressBook.setChangeJournal(delta);
+        addressBook.resetData(new AddressBook());
+        addressBook.setChangeJournal(null);
+
+        addressBook.applyDelta(delta, true);
+        assertEquals(originalAddressBook, addressBook);
+        assertTrue(addressBook.hasPerson(BENSON));
+
+        addressBook.applyDelta(delta, false);
+        assertEquals(new AddressBook(), addressBook);
+    }
+
+    @Test
+    public void applyDelta_doesNotRecordReplayedChanges() {
+        addressBook.setChangeJournal(delta);
+        addressBook.removePerson(BENSON);
+        Delta replayJournal = new Delta();
+        addressBook.setChangeJournal(replayJournal);
+
+        addressBook.applyDelta(delta, true);
+        assertTrue(replayJournal.isEmpty());
+    }
+
+    @Test
+    public void applyDelta_replacementOfAddedPerson_undoesAndRedoesBoth() {
+        Delta other = new Delta();
+        addressBook.setChangeJournal(delta);
+        addressBook.addPerson(HOON);
+        Person editedHoon = new PersonBuilder(HOON).withName("Hoon Edited").build();
+        addressBook.setPerson(HOON, editedHoon);
+        addressBook.setChangeJournal(null);
+
+        addressBook.applyDelta(delta, true);
+        assertFalse(addressBook.hasPerson(HOON));
+        addressBook.applyDelta(delta, false);
+        assertEquals(editedHoon, addressBook.getPersonList().get(addressBook.getPersonList().size() - 1));
+
+        other.append(delta);
+        assertFalse(other.isEmpty());
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.tassist.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.tassist.testutil.TypicalPersons.ALICE;
+import static seedu.tassist.testutil.TypicalPersons.BENSON;
+import static seedu.tassist.testutil.TypicalPersons.CARL;
+import static seedu.tassist.testutil.TypicalPersons.DANIEL;
+import static seedu.tassist.testutil.TypicalPersons.ELLE;
+import static seedu.tassist.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tassist.model.person.LabScore;
+import seedu.tassist.model.person.Person;
+import seedu.tassist.testutil.PersonBuilder;
+
+public class LabScoreAggregateTest {
+
+    private final LabScoreAggregate aggregate = new LabScoreAggregate();
+
+    @Test
+    public void getHighestScore_noGradedPerson_returnsDefaultScore() {
+        assertEquals(LabScore.DEFAULT_SCORE, aggregate.getHighestScore(1));
+        aggregate.add(ALICE);
+        assertEquals(LabScore.DEFAULT_SCORE, aggregate.getHighestScore(1));
+        assertEquals(LabScore.DEFAULT_SCORE, aggregate.getHighestScore(5));
+    }
+
+    @Test
+    public void getHighestScore_afterMutations_tracksHighestScore() {
+        aggregate.add(BENSON);
+        aggregate.add(CARL);
+        assertEquals(15, aggregate.getHighestScore(1));
+
+        Person editedCarl = new PersonBuilder(CARL).withLabScores("4.5/25|-/25|-/25|-/25").build();
+        aggregate.replace(CARL, editedCarl);
+        assertEquals(10, aggregate.getHighestScore(1));
+
+        aggregate.remove(BENSON);
+        assertEquals(5, aggregate.getHighestScore(1));
+    }
+
+    @Test
+    public void getHighestScoreExcluding_sharedHighestScore_returnsHighestScore() {
+        aggregate.setAll(getTypicalPersons());
+        assertEquals(25, aggregate.getHighestScoreExcluding(1, DANIEL));
+    }
+
+    @Test
+    public void getHighestScoreExcluding_uniqueHighestScore_returnsNextHighestScore() {
+        aggregate.add(ALICE);
+        aggregate.add(BENSON);
+        aggregate.add(CARL);
+        aggregate.add(DANIEL);
+        assertEquals(15, aggregate.getHighestScoreExcluding(1, DANIEL));
+        assertEquals(25, aggregate.getHighestScoreExcluding(1, ALICE));
+
+        aggregate.setAll(List.of(ELLE));
+        assertEquals(LabScore.DEFAULT_SCORE, aggregate.getHighestScoreExcluding(1, ELLE));
+    }
+}
@@ -11,12 +11,14 @@ import static seedu.tassist.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.tassist.commons.core.GuiSettings;
 import seedu.tassist.model.person.NameContainsKeywordsPredicate;
 import seedu.tassist.testutil.AddressBookBuilder;
+import seedu.tassist.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +90,45 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void findByMatNum_nullMatNum_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findByMatNum(null));
+    }
+
+    @Test
+    public void findByMatNum_personInAddressBook_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), modelManager.findByMatNum(ALICE.getMatNum()));
+        assertEquals(Optional.empty(), modelManager.findByMatNum(BENSON.getMatNum()));
+    }
+
+    @Test
+    public void applyDelta_filteredList_showsEveryPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Delta delta = new Delta();
+        modelManager.setChangeJournal(delta);
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Edited").build());
+        modelManager.setChangeJournal(null);
+        modelManager.updateFilteredPersonList(person -> person.equals(BENSON));
+
+        modelManager.applyDelta(delta, true);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setLabMaxScore_filteredList_keepsFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(person -> person.isSamePerson(BENSON));
+
+        modelManager.setLabMaxScore(1, 40);
+        modelManager.setLabMaxScore(1, 30);
+        assertEquals(1, modelManager.getFilteredPersonList().size());
+        assertTrue(modelManager.getFilteredPersonList().get(0).isSamePerson(BENSON));
+        assertEquals(30, modelManager.getFilteredPersonList().get(0).getLabScoreList().getMaxScore(1));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
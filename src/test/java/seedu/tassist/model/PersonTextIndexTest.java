@@ -0,0 +1,69 @@
+package seedu.tassist.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tassist.testutil.Assert.assertThrows;
+import static seedu.tassist.testutil.TypicalPersons.ALICE;
+import static seedu.tassist.testutil.TypicalPersons.BENSON;
+import static seedu.tassist.testutil.TypicalPersons.DANIEL;
+import static seedu.tassist.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tassist.model.PersonTextIndex.Field;
+import seedu.tassist.model.person.MatNum;
+import seedu.tassist.model.person.Person;
+import seedu.tassist.testutil.PersonBuilder;
+
+public class PersonTextIndexTest {
+
+    private final PersonTextIndex index = new PersonTextIndex();
+
+    @Test
+    public void findCandidates_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findCandidates(null, "abc"));
+        assertThrows(NullPointerException.class, () -> index.findCandidates(Field.NAME, null));
+    }
+
+    @Test
+    public void findCandidates_shortSubstring_returnsEmptyOptional() {
+        index.setAll(getTypicalPersons());
+        assertEquals(Optional.empty(), index.findCandidates(Field.NAME, "Me"));
+        assertEquals(Optional.empty(), index.findCandidates(Field.NAME, ""));
+    }
+
+    @Test
+    public void findCandidates_substringIgnoringCase_returnsContainingPersons() {
+        index.setAll(getTypicalPersons());
+        assertEquals(Optional.of(Set.of(BENSON.getMatNum(), DANIEL.getMatNum())),
+                index.findCandidates(Field.NAME, "EIER"));
+        assertEquals(Optional.of(Set.of(ALICE.getMatNum(), BENSON.getMatNum(), DANIEL.getMatNum())),
+                index.findCandidates(Field.TAG, "iend"));
+        assertEquals(Optional.of(Set.of()), index.findCandidates(Field.EMAIL, "nobody"));
+    }
+
+    @Test
+    public void replace_changedField_updatesPostings() {
+        index.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Keys").build();
+        index.replace(ALICE, editedAlice);
+
+        assertEquals(Optional.of(Set.of()), index.findCandidates(Field.NAME, "Pauline"));
+        assertEquals(Optional.of(Set.of(ALICE.getMatNum())), index.findCandidates(Field.NAME, "keys"));
+        assertEquals(Optional.of(Set.of(ALICE.getMatNum())), index.findCandidates(Field.EMAIL, "alice@"));
+    }
+
+    @Test
+    public void remove_person_removesFromEveryField() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+
+        Set<MatNum> candidates = index.findCandidates(Field.TAG, "friends").orElseThrow();
+        assertEquals(Set.of(BENSON.getMatNum()), candidates);
+        assertTrue(index.findCandidates(Field.PHONE, "94351253").orElseThrow().isEmpty());
+    }
+}
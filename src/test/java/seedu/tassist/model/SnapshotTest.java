@@ -1,13 +1,14 @@
 package seedu.tassist.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tassist.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.tassist.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.tassist.model.person.Person;
-
 public class SnapshotTest {
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
     @Test
@@ -23,9 +24,12 @@ public class SnapshotTest {
         snapshotA.setRecordType(Operations.RecordType.RECORD);
         assertEquals(snapshotA.getRecordType(), Operations.RecordType.RECORD);
 
-        snapshotA.setPerson(model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()));
-        Person expectedPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-        assertEquals(snapshotA.getPeople().get(0), expectedPerson);
-        assertEquals(snapshotA.getPeople().size(), 1);
+        assertTrue(snapshotA.getDelta().isEmpty());
+        Delta delta = new Delta();
+        delta.recordRemoved(model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()),
+                INDEX_FIRST_PERSON.getZeroBased());
+        snapshotA.setDelta(delta);
+        assertSame(snapshotA.getDelta(), delta);
+        assertFalse(snapshotA.getDelta().isEmpty());
     }
 }
@@ -1,5 +1,6 @@
 package seedu.tassist.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tassist.testutil.Assert.assertThrows;
@@ -363,4 +364,41 @@ public class AttendanceListTest {
         // Different AttendanceList instance of different Attendance String -> returns false.
         assertFalse(attendanceList.equals(attendanceListDifferent));
     }
+
+    @Test
+    public void hashCode_sameAttendanceString_sameHashCode() {
+        assertEquals(attendanceList.hashCode(), attendanceListDuplicate.hashCode());
+        assertEquals(attendanceListDifferent.hashCode(),
+                attendanceList.setAttendanceForWeek(10, Attendance.ON_MC).hashCode());
+    }
+
+    @Test
+    public void toString_everyWeekSet_roundTripsThroughAttendanceString() {
+        AttendanceList allOnMc = AttendanceList.generateAttendanceList("2222222222222");
+        for (int week = 1; week <= 13; week++) {
+            allOnMc = allOnMc.setAttendanceForWeek(week, (week + 1) % 4);
+        }
+        assertEquals("2301230123012", allOnMc.toString());
+        assertEquals(allOnMc, AttendanceList.generateAttendanceList(allOnMc.toString()));
+        assertEquals("", AttendanceList.EMPTY_ATTENDANCE_LIST.toString());
+    }
+
+    @Test
+    public void getAttendanceForWeek_emptyList_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                AttendanceList.EMPTY_ATTENDANCE_LIST.getAttendanceForWeek(1));
+        assertThrows(IllegalArgumentException.class, () ->
+                AttendanceList.EMPTY_ATTENDANCE_LIST.setAttendanceForWeek(1, Attendance.ATTENDED));
+    }
+
+    @Test
+    public void fromAttendanceBits_roundTripsThroughAttendanceBits() {
+        assertEquals(attendanceList, AttendanceList.fromAttendanceBits(attendanceList.toAttendanceBits()));
+        assertEquals(AttendanceList.EMPTY_ATTENDANCE_LIST, AttendanceList.fromAttendanceBits(
+                AttendanceList.EMPTY_ATTENDANCE_LIST.toAttendanceBits()));
+
+        // Bits beyond the last week -> invalid.
+        assertFalse(AttendanceList.isValidAttendanceBits(1 << 26));
+        assertThrows(IllegalArgumentException.class, () -> AttendanceList.fromAttendanceBits(1 << 26));
+    }
 }
@@ -0,0 +1,67 @@
+package seedu.tassist.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tassist.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LabSchemaTest {
+
+    @Test
+    public void constructor_default_hasDefaultLabs() {
+        LabSchema labSchema = new LabSchema();
+        assertEquals(LabSchema.DEFAULT_LAB_COUNT, labSchema.getLabCount());
+        assertEquals(LabSchema.DEFAULT_MAX_SCORE, labSchema.getMaxScore(1));
+        assertEquals(LabSchema.DEFAULT_MAX_SCORE, labSchema.getMaxScore(LabSchema.DEFAULT_LAB_COUNT));
+    }
+
+    @Test
+    public void constructor_invalidMaxScore_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LabSchema(25, -1));
+        assertThrows(IllegalArgumentException.class, () -> new LabSchema(LabSchema.LIMIT_MAX_SCORE + 1));
+    }
+
+    @Test
+    public void isValidLabNumber() {
+        LabSchema labSchema = new LabSchema(10, 20);
+        assertFalse(labSchema.isValidLabNumber(0));
+        assertTrue(labSchema.isValidLabNumber(1));
+        assertTrue(labSchema.isValidLabNumber(2));
+        assertFalse(labSchema.isValidLabNumber(3));
+    }
+
+    @Test
+    public void setMaxScore_validLab_updatesOnlyThatLab() {
+        LabSchema labSchema = new LabSchema();
+        labSchema.setMaxScore(2, 40);
+        assertEquals(40, labSchema.getMaxScore(2));
+        assertEquals(LabSchema.DEFAULT_MAX_SCORE, labSchema.getMaxScore(1));
+
+        assertThrows(IllegalArgumentException.class, () -> labSchema.setMaxScore(5, 40));
+        assertThrows(IllegalArgumentException.class, () -> labSchema.setMaxScore(1, LabSchema.LIMIT_MAX_SCORE + 1));
+    }
+
+    @Test
+    public void copyConstructor_independentOfOriginal() {
+        LabSchema labSchema = new LabSchema();
+        LabSchema copy = new LabSchema(labSchema);
+        assertEquals(labSchema, copy);
+
+        labSchema.setMaxScore(1, 40);
+        assertEquals(LabSchema.DEFAULT_MAX_SCORE, copy.getMaxScore(1));
+        assertFalse(labSchema.equals(copy));
+    }
+
+    @Test
+    public void equals() {
+        LabSchema labSchema = new LabSchema(10, 20);
+
+        assertTrue(labSchema.equals(labSchema));
+        assertTrue(labSchema.equals(new LabSchema(10, 20)));
+        assertFalse(labSchema.equals(null));
+        assertFalse(labSchema.equals(new LabSchema(10, 20, 30)));
+        assertFalse(labSchema.equals(new LabSchema(20, 10)));
+    }
+}
@@ -9,18 +9,18 @@ public class LabScoreListTest {
     @Test
     public void testLabNumberValidity() {
         // EP: valid lab number
-        // Boundary: lower bound (1) and upper bound (4)
+        // Boundary: lower bound (1); labs beyond the lab count are only rejected against the lab schema
         assertTrue(LabScoreList.isValidLabNumber("1"));
         assertTrue(LabScoreList.isValidLabNumber("4"));
+        assertTrue(LabScoreList.isValidLabNumber("5"));
 
         // EP: invalid lab number (negative number or 0)
         // Boundary: -1 and 0
         assertFalse(LabScoreList.isValidLabNumber("-1"));
         assertFalse(LabScoreList.isValidLabNumber("0"));
 
-        // EP: invalid lab number (above upper bound)
-        // Boundary: 5
-        assertFalse(LabScoreList.isValidLabNumber("5"));
+        // EP: invalid lab number (not a number)
+        assertFalse(LabScoreList.isValidLabNumber("one"));
     }
 
     @Test
@@ -18,8 +18,11 @@ import static seedu.tassist.testutil.Assert.assertThrows;
 import static seedu.tassist.testutil.TypicalPersons.ALICE;
 import static seedu.tassist.testutil.TypicalPersons.BOB;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.tassist.commons.util.DeferredValue;
 import seedu.tassist.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -92,6 +95,33 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+        assertEquals(ALICE.hashCode(), ALICE.hashCode());
+    }
+
+    @Test
+    public void getRemark_deferredRemark_createdOnlyWhenRead() {
+        AtomicInteger createCount = new AtomicInteger();
+        DeferredValue<Remark> remark = DeferredValue.defer(() -> {
+            createCount.incrementAndGet();
+            return ALICE.getRemark();
+        });
+        Person alice = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getTeleHandle(), ALICE.getEmail(),
+                ALICE.getMatNum(), ALICE.getTutGroup(), ALICE.getLabGroup(), ALICE.getFaculty(), ALICE.getYear(),
+                remark, ALICE.getAttendanceList(), ALICE.getLabScoreList(), ALICE.getTags());
+
+        // Hashing the person or copying it with other lab scores leaves the remark to be created.
+        assertEquals(ALICE.hashCode(), alice.hashCode());
+        alice.withLabScoreList(ALICE.getLabScoreList());
+        assertEquals(0, createCount.get());
+
+        assertEquals(ALICE, alice);
+        assertEquals(1, createCount.get());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName()
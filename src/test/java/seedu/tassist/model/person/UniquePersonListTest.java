@@ -6,14 +6,18 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tassist.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.tassist.testutil.Assert.assertThrows;
 import static seedu.tassist.testutil.TypicalPersons.ALICE;
+import static seedu.tassist.testutil.TypicalPersons.BENSON;
 import static seedu.tassist.testutil.TypicalPersons.BOB;
+import static seedu.tassist.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.tassist.model.person.exceptions.DuplicatePersonException;
 import seedu.tassist.model.person.exceptions.PersonNotFoundException;
 import seedu.tassist.testutil.PersonBuilder;
@@ -46,6 +50,41 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void findByMatNum_personNotInList_returnsEmpty() {
+        assertEquals(Optional.empty(), uniquePersonList.findByMatNum(ALICE.getMatNum()));
+    }
+
+    @Test
+    public void findByMatNum_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByMatNum(ALICE.getMatNum()));
+    }
+
+    @Test
+    public void findByMatNum_afterSetPersonWithDifferentIdentity_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findByMatNum(ALICE.getMatNum()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByMatNum(BOB.getMatNum()));
+    }
+
+    @Test
+    public void findByMatNum_afterRemove_returnsEmpty() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(Optional.empty(), uniquePersonList.findByMatNum(ALICE.getMatNum()));
+    }
+
+    @Test
+    public void findByMatNum_afterSetPersons_reflectsReplacement() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByMatNum(BOB.getMatNum()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -126,6 +165,59 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_equalPersonNotSameInstance_removesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.remove(new PersonBuilder(BENSON).build());
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void remove_samePersonWithDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
+    @Test
+    public void getVersion_laterChanges_doNotAffectVersion() {
+        uniquePersonList.add(ALICE);
+        PersonListVersion version = uniquePersonList.getVersion();
+        uniquePersonList.add(BENSON);
+        uniquePersonList.setPerson(ALICE, CARL);
+
+        assertEquals(List.of(ALICE), version.asList());
+        assertEquals(Optional.of(ALICE), version.findByMatNum(ALICE.getMatNum()));
+        assertEquals(Optional.empty(), version.findByMatNum(BENSON.getMatNum()));
+
+        uniquePersonList.setVersion(version);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void setPerson_afterRemovingEarlierPerson_replacesCorrectSlot() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.setPerson(ALICE, BOB);
+
+        assertEquals(List.of(editedCarl, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(editedCarl, BOB), uniquePersonList.getVersion().asList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -161,6 +253,37 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsEveryDuplicateMatNum() {
+        Person editedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BENSON, ALICE, CARL, editedBenson, ALICE);
+        String expectedMessage = new DuplicatePersonException(
+                List.of(ALICE.getMatNum(), BENSON.getMatNum())).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_list_firesSingleChangeEvent() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Person>) change -> changeCount[0]++);
+        uniquePersonList.setPersons(Arrays.asList(BENSON, CARL, BOB));
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void findDuplicateMatNums_uniqueList_returnsEmptyList() {
+        assertEquals(List.of(), UniquePersonList.findDuplicateMatNums(Arrays.asList(ALICE, BENSON, CARL)));
+    }
+
+    @Test
+    public void findDuplicateMatNums_listWithDuplicates_returnsEachDuplicateOnce() {
+        assertEquals(List.of(BENSON.getMatNum(), ALICE.getMatNum()),
+                UniquePersonList.findDuplicateMatNums(Arrays.asList(ALICE, BENSON, BENSON, ALICE, BENSON)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
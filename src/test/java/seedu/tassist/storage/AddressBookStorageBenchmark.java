@@ -0,0 +1,74 @@
+package seedu.tassist.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.tassist.model.AddressBook;
+import seedu.tassist.testutil.PersonBuilder;
+
+/**
+ * Compares how long the json storage and the key-value storage that the app reads at startup take to load
+ * a large address book.
+ * Not run as part of the tests. Run it with {@code [json|keyvalue] [personCount]}: the first read of a format
+ * in a fresh JVM is its cold start, so pass a format to time only that format's cold start.
+ * Without a format, both are timed in turn, followed by the average of a few warm reads.
+ */
+public class AddressBookStorageBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 20_000;
+    private static final int WARM_READ_COUNT = 5;
+    private static final String[] FACULTIES = {"School of Computing", "Faculty of Science", "College of Design"};
+
+    public static void main(String[] args) throws Exception {
+        String format = args.length > 0 ? args[0] : "all";
+        int personCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PERSON_COUNT;
+
+        Path folder = Files.createTempDirectory("addressbook-benchmark");
+        AddressBookStorage jsonStorage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        AddressBook addressBook = createAddressBook(personCount);
+        jsonStorage.saveAddressBook(addressBook);
+        Path keyValueFilePath = folder.resolve("addressbook.kv");
+        new KeyValueAddressBookStorage(keyValueFilePath).saveAddressBook(addressBook);
+        System.out.printf("%d persons: json %d KB, key-value %d KB%n", personCount,
+                Files.size(jsonStorage.getAddressBookFilePath()) / 1024, Files.size(keyValueFilePath) / 1024);
+
+        if (!format.equals("keyvalue")) {
+            time("json", jsonStorage, !format.equals("json"));
+        }
+        if (!format.equals("json")) {
+            // A fresh storage is read from, so that opening the store is timed as it is at startup.
+            time("key-value", new KeyValueAddressBookStorage(keyValueFilePath), !format.equals("keyvalue"));
+        }
+    }
+
+    private static AddressBook createAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder()
+                    .withName("Student " + i)
+                    .withMatNum(String.format("A9%06d", i))
+                    .withTutGroup(String.format("T%02d", i % 20 + 1))
+                    .withLabGroup(String.format("B%02d", i % 40 + 1))
+                    .withFaculty(FACULTIES[i % FACULTIES.length])
+                    .withYear(String.valueOf(i % 4 + 1))
+                    .withTags("cs2103", i % 2 == 0 ? "even" : "odd")
+                    .build());
+        }
+        return addressBook;
+    }
+
+    private static void time(String name, AddressBookStorage storage, boolean isWarmReadTimed) throws Exception {
+        long start = System.nanoTime();
+        storage.readAddressBook();
+        System.out.printf("%s cold read: %d ms%n", name, (System.nanoTime() - start) / 1_000_000);
+        if (!isWarmReadTimed) {
+            return;
+        }
+
+        start = System.nanoTime();
+        for (int i = 0; i < WARM_READ_COUNT; i++) {
+            storage.readAddressBook();
+        }
+        System.out.printf("%s warm read: %d ms%n", name, (System.nanoTime() - start) / 1_000_000 / WARM_READ_COUNT);
+    }
+}
@@ -1,14 +1,19 @@
 package seedu.tassist.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.tassist.testutil.Assert.assertThrows;
+import static seedu.tassist.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.tassist.commons.exceptions.DataLoadingException;
 import seedu.tassist.model.AddressBook;
 import seedu.tassist.model.ReadOnlyAddressBook;
 
@@ -46,4 +51,23 @@ public class CsvAddressBookStorageTest {
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new CsvAddressBookStorage(testFolder.resolve("missing.csv")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_savedAddressBook_readBack() throws Exception {
+        CsvAddressBookStorage storage = new CsvAddressBookStorage(testFolder.resolve("addressbook.csv"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidRows_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.csv");
+        Files.writeString(filePath, String.join(",", CsvPersonWriter.HEADER) + "\nnot,a,person\nnor,this\n");
+        assertThrows(DataLoadingException.class, () -> new CsvAddressBookStorage(filePath).readAddressBook());
+    }
 }
@@ -0,0 +1,91 @@
+package seedu.tassist.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tassist.model.person.Person;
+import seedu.tassist.testutil.PersonBuilder;
+
+public class CsvPersonReaderTest {
+
+    private static final String HEADER_ROW = String.join(",", CsvPersonWriter.HEADER) + "\r\n";
+    private static final String VALID_ROW = "Amy Bee,85355255,@beee_mee,amy@gmail.com,A0000000Y,T01,B01,SoC,1,todo,"
+            + "3300000000000,4.-/25|-/25|-/25|-/25,[[friend]]";
+
+    @TempDir
+    public Path testFolder;
+
+    private static CsvPersonReader.Result read(String contents) throws Exception {
+        return new CsvPersonReader(new StringReader(contents)).readPersons();
+    }
+
+    @Test
+    public void readRecord_quotedValues_unquoted() throws Exception {
+        CsvPersonReader reader = new CsvPersonReader(new StringReader("a,\"b,c\",\"say \"\"hi\"\"\",\"x\ny\"\r\nz"));
+        assertEquals(List.of("a", "b,c", "say \"hi\"", "x\ny"), reader.readRecord());
+        assertEquals(List.of("z"), reader.readRecord());
+        assertEquals(null, reader.readRecord());
+    }
+
+    @Test
+    public void readPersons_emptyFile_noPersons() throws Exception {
+        CsvPersonReader.Result result = read("");
+        assertTrue(result.getPersons().isEmpty());
+        assertFalse(result.hasErrors());
+    }
+
+    @Test
+    public void readPersons_blankLinesAndByteOrderMark_skipped() throws Exception {
+        CsvPersonReader.Result result = read("\uFEFF" + HEADER_ROW + "\r\n" + VALID_ROW + "\r\n\r\n");
+        assertEquals(List.of(new PersonBuilder().withTags("friend").build()), result.getPersons());
+        assertFalse(result.hasErrors());
+    }
+
+    @Test
+    public void readPersons_writtenPersons_readBackInOrder() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < CsvPersonReader.CHUNK_SIZE * 2 + 5; i++) {
+            persons.add(new PersonBuilder().withMatNum(String.format("A9%06d", i))
+                    .withFaculty("Arts, Social Sciences").withRemark("says hi,\non two lines")
+                    .withTags("friend", "colleague").build());
+        }
+        Path filePath = testFolder.resolve("addressbook.csv");
+        CsvPersonWriter.write(persons, filePath);
+
+        CsvPersonReader.Result result = CsvPersonReader.read(filePath);
+        assertFalse(result.hasErrors());
+        assertEquals(persons, result.getPersons());
+    }
+
+    @Test
+    public void readPersons_invalidRows_collectsErrorOfEachLine() throws Exception {
+        String invalidMatNum = VALID_ROW.replace("A0000000Y", "B123");
+        String invalidTags = VALID_ROW.replace("[[friend]]", "friend").replace("A0000000Y", "A0000001Y");
+        CsvPersonReader.Result result = read(HEADER_ROW + invalidMatNum + "\r\n\"multi\nline\"," + VALID_ROW
+                + "\r\n" + invalidTags + "\r\n" + VALID_ROW);
+
+        assertEquals(1, result.getPersons().size());
+        assertEquals(3, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).startsWith("Line 2: "));
+        assertTrue(result.getErrors().get(1).startsWith("Line 3: "));
+        assertEquals(String.format(CsvPersonReader.MESSAGE_LINE_ERROR, 5, CsvPersonReader.MESSAGE_INVALID_TAGS),
+                result.getErrors().get(2));
+    }
+
+    @Test
+    public void readPersons_unclosedQuote_stopsWithError() throws Exception {
+        CsvPersonReader.Result result = read(HEADER_ROW + VALID_ROW + "\r\n\"unclosed," + VALID_ROW);
+        assertEquals(1, result.getPersons().size());
+        assertEquals(List.of(String.format(CsvPersonReader.MESSAGE_LINE_ERROR, 3,
+                CsvPersonReader.MESSAGE_UNCLOSED_QUOTE)), result.getErrors());
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.tassist.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tassist.model.AddressBook;
+import seedu.tassist.model.person.Person;
+import seedu.tassist.testutil.PersonBuilder;
+
+public class CsvPersonWriterTest {
+
+    private static final String HEADER_ROW = "name,phone,teleHandle,email,matNum,tutGroup,labGroup,"
+            + "faculty,year,remark,attendanceList,labScoreList,tags\r\n";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writePerson_plainValues_writtenUnquoted() throws Exception {
+        StringWriter out = new StringWriter();
+        CsvPersonWriter writer = new CsvPersonWriter(out);
+        writer.writePerson(new PersonBuilder().withTags("friend").build());
+
+        assertEquals("Amy Bee,85355255,@beee_mee,amy@gmail.com,A0000000Y,T01,B01,SoC,1,todo,"
+                + "3300000000000,4.-/25|-/25|-/25|-/25,[[friend]]\r\n", out.toString());
+    }
+
+    @Test
+    public void writePerson_specialCharacters_quoted() throws Exception {
+        StringWriter out = new StringWriter();
+        CsvPersonWriter writer = new CsvPersonWriter(out);
+        writer.writePerson(new PersonBuilder().withFaculty("Arts, Social Sciences").withRemark("line\nbreak")
+                .withTags().build());
+
+        String row = out.toString();
+        assertTrue(row.contains(",\"Arts, Social Sciences\",1,\"line\nbreak\","));
+        assertTrue(row.endsWith(",\r\n"));
+    }
+
+    @Test
+    public void write_emptyList_writesHeaderOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.csv");
+        CsvPersonWriter.write(List.of(), filePath);
+        assertEquals(HEADER_ROW, Files.readString(filePath));
+    }
+
+    @Test
+    public void write_persons_readableByCsvStorage() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.csv");
+        Person amy = new PersonBuilder().withTags("friend").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").withMatNum("A1234567X").withTutGroup("")
+                .withAttendanceList("").withTags().build();
+        CsvPersonWriter.write(List.of(amy, bob), filePath);
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(amy);
+        expected.addPerson(bob);
+        assertEquals(expected, new AddressBook(new CsvAddressBookStorage(filePath).readAddressBook().get()));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.tassist.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.tassist.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tassist.commons.exceptions.IllegalValueException;
+import seedu.tassist.commons.util.JsonUtil;
+import seedu.tassist.model.AddressBook;
+import seedu.tassist.testutil.TypicalPersons;
+
+public class JsonAddressBookCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_skipsOtherFields() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookCodec.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookCodec.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, "[ ]");
+        assertThrows(IOException.class, () -> JsonAddressBookCodec.read(filePath));
+    }
+
+    @Test
+    public void read_noPersons_emptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, "{ \"persons\" : null }");
+        assertEquals(new AddressBook(), JsonAddressBookCodec.read(filePath));
+    }
+
+    @Test
+    public void write_typicalPersons_readableAsSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        JsonAddressBookCodec.write(original, filePath);
+
+        // The streamed file is in the same format as a JsonSerializableAddressBook.
+        AddressBook readBack = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType();
+        assertEquals(original, readBack);
+        assertEquals(original, JsonAddressBookCodec.read(filePath));
+    }
+}
@@ -2,15 +2,19 @@ package seedu.tassist.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.tassist.testutil.Assert.assertThrows;
+import static seedu.tassist.testutil.TypicalPersons.ALICE;
+import static seedu.tassist.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.tassist.commons.exceptions.IllegalValueException;
 import seedu.tassist.commons.util.JsonUtil;
 import seedu.tassist.model.AddressBook;
+import seedu.tassist.testutil.PersonBuilder;
 import seedu.tassist.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -40,8 +44,18 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_MAT_NUMS, "A0000000Y"),
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_differentLabMaxScores_throwsIllegalValueException() {
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(List.of(new JsonAdaptedPerson(BENSON),
+                new JsonAdaptedPerson(new PersonBuilder(ALICE).withLabScores("4/50|-/25|-/25|-/25").build())));
+        assertThrows(IllegalValueException.class,
+                String.format(AddressBook.MESSAGE_INCONSISTENT_LAB_MAX_SCORES, ALICE.getMatNum()),
+                data::toModelType);
+    }
+
 }
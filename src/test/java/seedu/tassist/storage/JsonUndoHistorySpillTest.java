@@ -0,0 +1,97 @@
+package seedu.tassist.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.tassist.testutil.Assert.assertThrows;
+import static seedu.tassist.testutil.TypicalPersons.BENSON;
+import static seedu.tassist.testutil.TypicalPersons.CARL;
+import static seedu.tassist.testutil.TypicalPersons.HOON;
+import static seedu.tassist.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tassist.commons.exceptions.DataLoadingException;
+import seedu.tassist.model.AddressBook;
+import seedu.tassist.model.Delta;
+import seedu.tassist.model.Operations;
+import seedu.tassist.model.Snapshot;
+import seedu.tassist.testutil.PersonBuilder;
+
+public class JsonUndoHistorySpillTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonUndoHistorySpill(null));
+    }
+
+    @Test
+    public void pop_afterPush_readsBackChangesInOrder() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook addressBook = getTypicalAddressBook();
+        Delta delta = new Delta();
+        addressBook.setChangeJournal(delta);
+        addressBook.removePerson(BENSON);
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Edited").build());
+        addressBook.addPerson(HOON);
+        addressBook.setLabMaxScore(1, 30);
+        addressBook.resetData(new AddressBook());
+        addressBook.setChangeJournal(null);
+
+        Snapshot snapshot = new Snapshot("lab -ln 1 -msc 30", "lab score", Operations.RecordType.RECORD);
+        snapshot.setDelta(delta);
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(testFolder.resolve("undohistory.json"));
+        spill.push(snapshot);
+        assertEquals(1, spill.size());
+
+        Snapshot readBack = spill.pop();
+        assertEquals(snapshot, readBack);
+        assertEquals(0, spill.size());
+
+        addressBook.applyDelta(readBack.getDelta(), true);
+        assertEquals(original, addressBook);
+    }
+
+    @Test
+    public void pop_severalPushed_returnsLastPushedFirst() throws Exception {
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(testFolder.resolve("undohistory.json"));
+        Snapshot first = new Snapshot("list", Operations.RecordType.IGNORE);
+        Snapshot second = new Snapshot("del -i 1", "delete", Operations.RecordType.RECORD);
+        spill.push(first);
+        spill.push(second);
+
+        assertEquals(second, spill.pop());
+        Snapshot third = new Snapshot("clear", "clear", Operations.RecordType.RECORD);
+        spill.push(third);
+        assertEquals(third, spill.pop());
+        assertEquals(first, spill.pop());
+    }
+
+    @Test
+    public void pop_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("undohistory.json");
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(filePath);
+        spill.push(new Snapshot("list", Operations.RecordType.IGNORE));
+        Files.writeString(filePath, "{ not json");
+
+        assertThrows(DataLoadingException.class, spill::pop);
+    }
+
+    @Test
+    public void clear_deletesFile() throws IOException {
+        Path filePath = testFolder.resolve("undohistory.json");
+        JsonUndoHistorySpill spill = new JsonUndoHistorySpill(filePath);
+        spill.push(new Snapshot("list", Operations.RecordType.IGNORE));
+
+        spill.clear();
+        assertEquals(0, spill.size());
+        assertFalse(Files.exists(filePath));
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.tassist.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tassist.testutil.Assert.assertThrows;
+import static seedu.tassist.testutil.TypicalPersons.BENSON;
+import static seedu.tassist.testutil.TypicalPersons.HOON;
+import static seedu.tassist.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tassist.commons.exceptions.DataLoadingException;
+import seedu.tassist.model.AddressBook;
+import seedu.tassist.model.Delta;
+import seedu.tassist.model.Operations;
+import seedu.tassist.model.Snapshot;
+
+public class JsonUndoJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Snapshot deleteBenson = recordedSnapshot("del -i 2", "delete");
+    private final Snapshot addHoon = recordedSnapshot("add -n Hoon", "add");
+
+    /**
+     * Returns a recorded snapshot with the changes of removing Benson and adding Hoon to the typical persons.
+     */
+    private static Snapshot recordedSnapshot(String command, String commandTypeString) {
+        AddressBook addressBook = getTypicalAddressBook();
+        Delta delta = new Delta();
+        addressBook.setChangeJournal(delta);
+        if (commandTypeString.equals("delete")) {
+            addressBook.removePerson(BENSON);
+        } else {
+            addressBook.addPerson(HOON);
+        }
+        Snapshot snapshot = new Snapshot(command, commandTypeString, Operations.RecordType.RECORD);
+        snapshot.setDelta(delta);
+        return snapshot;
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonUndoJournal(null));
+    }
+
+    @Test
+    public void recover_missingFile_emptyHistory() throws Exception {
+        JsonUndoJournal journal = new JsonUndoJournal(testFolder.resolve("undojournal.dat"));
+        journal.recover();
+        assertEquals(0, journal.size());
+        assertTrue(journal.readRedoHistory().isEmpty());
+    }
+
+    @Test
+    public void recover_recordedCommands_popsLastRecordedFirst() throws Exception {
+        Path filePath = testFolder.resolve("undojournal.dat");
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        journal.appendRecorded(deleteBenson);
+        journal.appendRecorded(addHoon);
+
+        JsonUndoJournal recovered = new JsonUndoJournal(filePath);
+        recovered.recover();
+        assertEquals(2, recovered.size());
+        Snapshot readBack = recovered.pop();
+        assertEquals(addHoon, readBack);
+        assertEquals(HOON, ((Delta.PersonChange) readBack.getDelta().getChanges().get(0)).getAfter());
+        assertEquals(deleteBenson, recovered.pop());
+        assertEquals(0, recovered.size());
+    }
+
+    @Test
+    public void recover_undoneCommands_readsBackRedoHistory() throws Exception {
+        Path filePath = testFolder.resolve("undojournal.dat");
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        journal.appendRecorded(deleteBenson);
+        journal.appendRecorded(addHoon);
+        journal.appendUndone();
+        journal.appendUndone();
+        journal.appendRedone();
+
+        JsonUndoJournal recovered = new JsonUndoJournal(filePath);
+        recovered.recover();
+        assertEquals(1, recovered.size());
+        assertEquals(List.of(addHoon), recovered.readRedoHistory());
+        assertEquals(deleteBenson, recovered.pop());
+    }
+
+    @Test
+    public void recover_newCommandAfterUndo_dropsRedoHistory() throws Exception {
+        Path filePath = testFolder.resolve("undojournal.dat");
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        journal.appendRecorded(deleteBenson);
+        journal.appendUndone();
+        journal.appendRecorded(addHoon);
+
+        JsonUndoJournal recovered = new JsonUndoJournal(filePath);
+        recovered.recover();
+        assertTrue(recovered.readRedoHistory().isEmpty());
+        assertEquals(1, recovered.size());
+        assertEquals(addHoon, recovered.pop());
+    }
+
+    @Test
+    public void recover_tornLastFrame_dropsIt() throws Exception {
+        Path filePath = testFolder.resolve("undojournal.dat");
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        journal.appendRecorded(deleteBenson);
+        long intactSize = Files.size(filePath);
+        journal.appendRecorded(addHoon);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(filePath) - 3);
+        }
+
+        JsonUndoJournal recovered = new JsonUndoJournal(filePath);
+        recovered.recover();
+        assertEquals(intactSize, Files.size(filePath));
+        assertEquals(1, recovered.size());
+
+        // The journal carries on from the last whole frame.
+        recovered.appendUndone();
+        JsonUndoJournal recoveredAgain = new JsonUndoJournal(filePath);
+        recoveredAgain.recover();
+        assertEquals(List.of(deleteBenson), recoveredAgain.readRedoHistory());
+    }
+
+    @Test
+    public void recover_corruptedFrame_dropsItAndEverythingAfter() throws Exception {
+        Path filePath = testFolder.resolve("undojournal.dat");
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        journal.appendRecorded(deleteBenson);
+        long intactSize = Files.size(filePath);
+        journal.appendRecorded(addHoon);
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        JsonUndoJournal recovered = new JsonUndoJournal(filePath);
+        recovered.recover();
+        assertEquals(intactSize, Files.size(filePath));
+        assertEquals(deleteBenson, recovered.pop());
+    }
+
+    @Test
+    public void recover_mostlyDeadFrames_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("undojournal.dat");
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        do {
+            journal.appendRecorded(addHoon);
+            journal.appendUndone();
+        } while (Files.size(filePath) < 128 * 1024);
+        journal.appendRecorded(deleteBenson);
+        journal.appendRecorded(addHoon);
+        journal.appendUndone();
+        long size = Files.size(filePath);
+
+        JsonUndoJournal recovered = new JsonUndoJournal(filePath);
+        recovered.recover();
+        assertTrue(Files.size(filePath) < size / 10);
+        assertEquals(List.of(addHoon), recovered.readRedoHistory());
+
+        recovered.appendRedone();
+        JsonUndoJournal recoveredAgain = new JsonUndoJournal(filePath);
+        recoveredAgain.recover();
+        assertEquals(2, recoveredAgain.size());
+        assertEquals(addHoon, recoveredAgain.pop());
+        assertEquals(deleteBenson, recoveredAgain.pop());
+    }
+
+    @Test
+    public void push_committedSnapshot_doesNotWriteAgain() throws Exception {
+        Path filePath = testFolder.resolve("undojournal.dat");
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        journal.appendRecorded(deleteBenson);
+        journal.appendRecorded(addHoon);
+        long size = Files.size(filePath);
+
+        journal.push(deleteBenson);
+        assertEquals(1, journal.size());
+        assertEquals(size, Files.size(filePath));
+        assertEquals(deleteBenson, journal.pop());
+    }
+
+    @Test
+    public void pop_overwrittenFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("undojournal.dat");
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        journal.appendRecorded(deleteBenson);
+        journal.recover();
+        Files.writeString(filePath, "not a journal");
+
+        assertThrows(DataLoadingException.class, journal::pop);
+    }
+
+    @Test
+    public void clear_deletesFile() throws IOException {
+        Path filePath = testFolder.resolve("undojournal.dat");
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        journal.appendRecorded(deleteBenson);
+
+        journal.clear();
+        assertEquals(0, journal.size());
+        assertFalse(Files.exists(filePath));
+    }
+}
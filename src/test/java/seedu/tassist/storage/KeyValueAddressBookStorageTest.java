@@ -0,0 +1,150 @@
+package seedu.tassist.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tassist.testutil.Assert.assertThrows;
+import static seedu.tassist.testutil.TypicalPersons.ALICE;
+import static seedu.tassist.testutil.TypicalPersons.BENSON;
+import static seedu.tassist.testutil.TypicalPersons.HOON;
+import static seedu.tassist.testutil.TypicalPersons.IDA;
+import static seedu.tassist.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tassist.commons.exceptions.DataLoadingException;
+import seedu.tassist.model.AddressBook;
+import seedu.tassist.model.person.Person;
+import seedu.tassist.testutil.PersonBuilder;
+
+public class KeyValueAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getFilePath() {
+        return testFolder.resolve("addressbook.kv");
+    }
+
+    @Test
+    public void constructor_nullLegacyStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeyValueAddressBookStorage(getFilePath(), null));
+    }
+
+    @Test
+    public void getKeyValueFilePath_jsonFile_replacesExtension() {
+        assertEquals(Paths.get("data", "addressbook.kv"),
+                KeyValueAddressBookStorage.getKeyValueFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_readsLegacyStorage() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(getFilePath(), jsonStorage);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        // Once saved, the store is read instead.
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertFalse(storage.readAddressBook(testFolder.resolve("other.kv")).isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(getFilePath());
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Modify data and read back, from this storage and from a fresh one.
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withRemark("moved seats").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new KeyValueAddressBookStorage(getFilePath()).readAddressBook().get()));
+
+        // A person put back at the front keeps its place.
+        List<Person> persons = new ArrayList<>(original.getPersonList());
+        persons.add(0, ALICE);
+        original.setPersons(persons);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new KeyValueAddressBookStorage(getFilePath()).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonChanged_onlyThatRecordAppended() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(getFilePath());
+        storage.saveAddressBook(addressBook);
+        long fullSize = Files.size(getFilePath());
+
+        // Nothing changed, so nothing is written.
+        storage.saveAddressBook(addressBook);
+        assertEquals(fullSize, Files.size(getFilePath()));
+
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        long appendedSize = Files.size(getFilePath()) - fullSize;
+        assertTrue(appendedSize > 0 && appendedSize < fullSize / 3);
+        assertEquals(addressBook, new AddressBook(new KeyValueAddressBookStorage(getFilePath())
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writesWholeStore() throws Exception {
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(getFilePath());
+        Path otherPath = testFolder.resolve("backup").resolve("addressbook.kv");
+        storage.saveAddressBook(getTypicalAddressBook(), otherPath);
+
+        assertFalse(Files.exists(getFilePath()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(otherPath).get()));
+    }
+
+    @Test
+    public void readAddressBook_mismatchedKey_throwsDataLoadingException() throws Exception {
+        try (KeyValueStore store = KeyValueStore.open(getFilePath())) {
+            store.commit(Map.of(BENSON.getMatNum().value, BinaryAddressBookCodec.encodeRecord(ALICE)),
+                    List.of());
+        }
+        assertThrows(DataLoadingException.class, () ->
+                new KeyValueAddressBookStorage(getFilePath()).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidRemark_throwsDataLoadingException() throws Exception {
+        // The remark is created only when first read, but it is still validated as the store is read.
+        Person person = new PersonBuilder(ALICE).withRemark("moved seats").build();
+        byte[] record = BinaryAddressBookCodec.encodeRecord(person);
+        int remarkIndex = new String(record, StandardCharsets.ISO_8859_1).indexOf("moved seats");
+        record[remarkIndex] = '"';
+        try (KeyValueStore store = KeyValueStore.open(getFilePath())) {
+            store.commit(Map.of(ALICE.getMatNum().value, record), List.of());
+        }
+        assertThrows(DataLoadingException.class, () ->
+                new KeyValueAddressBookStorage(getFilePath()).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_notStoreFile_throwsDataLoadingException() throws Exception {
+        Files.writeString(getFilePath(), "{ \"persons\" : [ ] }");
+        assertThrows(DataLoadingException.class, () ->
+                new KeyValueAddressBookStorage(getFilePath()).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(getFilePath());
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
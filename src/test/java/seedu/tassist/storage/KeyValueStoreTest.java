@@ -0,0 +1,161 @@
+package seedu.tassist.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tassist.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class KeyValueStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static Map<String, byte[]> puts(String... keysAndValues) {
+        Map<String, byte[]> puts = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            puts.put(keysAndValues[i], keysAndValues[i + 1].getBytes(UTF_8));
+        }
+        return puts;
+    }
+
+    private static Map<String, String> readAll(KeyValueStore store) throws IOException {
+        Map<String, String> values = new LinkedHashMap<>();
+        store.readAll().forEach((key, value) -> values.put(key, UTF_8.decode(value).toString()));
+        return values;
+    }
+
+    @Test
+    public void open_missingFile_emptyStore() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("store.kv");
+        try (KeyValueStore store = KeyValueStore.open(filePath)) {
+            assertTrue(store.getKeys().isEmpty());
+        }
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void open_notStoreFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        Files.writeString(filePath, "{ \"persons\" : [ ] }");
+        assertThrows(IOException.class, () -> KeyValueStore.open(filePath));
+    }
+
+    @Test
+    public void commit_putsAndDeletes_keptAcrossOpens() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        try (KeyValueStore store = KeyValueStore.open(filePath)) {
+            store.commit(puts("a", "1", "b", "2", "c", "3"), List.of());
+            store.commit(puts("b", "22", "d", "4"), List.of("a"));
+            assertEquals(Map.of("b", "22", "c", "3", "d", "4"), readAll(store));
+        }
+
+        try (KeyValueStore store = KeyValueStore.open(filePath)) {
+            // Replaced keys keep their place, new keys go last.
+            assertEquals(List.of("b", "c", "d"), store.getKeys());
+            assertEquals(Map.of("b", "22", "c", "3", "d", "4"), readAll(store));
+
+            // A key deleted and put again in one transaction goes last.
+            store.commit(puts("b", "222"), List.of("b"));
+            assertEquals(List.of("c", "d", "b"), store.getKeys());
+        }
+
+        try (KeyValueStore store = KeyValueStore.open(filePath)) {
+            assertEquals(List.of("c", "d", "b"), store.getKeys());
+            assertEquals("222", readAll(store).get("b"));
+        }
+    }
+
+    @Test
+    public void open_incompleteTransaction_discarded() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        long committedSize;
+        try (KeyValueStore store = KeyValueStore.open(filePath)) {
+            store.commit(puts("a", "1"), List.of());
+            committedSize = Files.size(filePath);
+            store.commit(puts("a", "2", "b", "3"), List.of());
+        }
+
+        // Cut the last transaction short, as a crash while writing it would.
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(filePath) - 2);
+        }
+        try (KeyValueStore store = KeyValueStore.open(filePath)) {
+            assertEquals(Map.of("a", "1"), readAll(store));
+            assertEquals(committedSize, Files.size(filePath));
+
+            store.commit(puts("c", "4"), List.of());
+        }
+        try (KeyValueStore store = KeyValueStore.open(filePath)) {
+            assertEquals(Map.of("a", "1", "c", "4"), readAll(store));
+        }
+    }
+
+    @Test
+    public void open_corruptedTransaction_discarded() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        try (KeyValueStore store = KeyValueStore.open(filePath)) {
+            store.commit(puts("a", "1"), List.of());
+            store.commit(puts("a", "2"), List.of());
+        }
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 6] = '9';
+        Files.write(filePath, bytes);
+        try (KeyValueStore store = KeyValueStore.open(filePath)) {
+            assertEquals(Map.of("a", "1"), readAll(store));
+        }
+    }
+
+    @Test
+    public void compact_replacedValues_onlyLatestKeptInOrder() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        String largeValue = "x".repeat(40 * 1024);
+        try (KeyValueStore store = KeyValueStore.open(filePath)) {
+            store.commit(puts("a", largeValue, "b", largeValue), List.of());
+            assertFalse(store.hasMostlyReplacedValues());
+            store.commit(puts("a", "1", "b", "2"), List.of());
+            assertTrue(store.hasMostlyReplacedValues());
+
+            store.compact(List.of("b"));
+            assertFalse(store.hasMostlyReplacedValues());
+            assertTrue(Files.size(filePath) < 1024);
+            assertEquals(List.of("b", "a"), store.getKeys());
+            assertEquals(Map.of("a", "1", "b", "2"), readAll(store));
+
+            store.commit(puts("c", "3"), List.of("a"));
+        }
+
+        try (KeyValueStore store = KeyValueStore.open(filePath)) {
+            assertEquals(List.of("b", "c"), store.getKeys());
+            assertEquals(Map.of("b", "2", "c", "3"), readAll(store));
+        }
+    }
+
+    @Test
+    public void write_entries_readBackInOrder() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        Map<String, ByteBuffer> entries = new LinkedHashMap<>();
+        entries.put("z", ByteBuffer.wrap("26".getBytes(UTF_8)));
+        entries.put("a", ByteBuffer.wrap("1".getBytes(UTF_8)));
+        KeyValueStore.write(filePath, entries);
+
+        try (KeyValueStore store = KeyValueStore.open(filePath)) {
+            assertEquals(List.of("z", "a"), store.getKeys());
+            assertEquals(Map.of("z", "26", "a", "1"), readAll(store));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.tassist.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tassist.testutil.Assert.assertThrows;
+import static seedu.tassist.testutil.TypicalPersons.HOON;
+import static seedu.tassist.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tassist.commons.core.SaveDurability;
+import seedu.tassist.model.AddressBook;
+import seedu.tassist.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+
+    private static final long LONG_INTERVAL = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private final AtomicInteger writeCount = new AtomicInteger();
+
+    private WriteBehindStorage createStorage(SaveDurability durability, long groupCommitInterval) {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writeCount.incrementAndGet();
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs.json"));
+        return new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage),
+                durability, groupCommitInterval);
+    }
+
+    private AddressBook readBack(WriteBehindStorage storage) throws Exception {
+        return new AddressBook(storage.readAddressBook().get());
+    }
+
+    @Test
+    public void constructor_invalidGroupCommitInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createStorage(SaveDurability.GROUP_COMMIT, 0));
+    }
+
+    @Test
+    public void saveAddressBook_everyCommand_writesBeforeReturning() throws Exception {
+        WriteBehindStorage storage = createStorage(SaveDurability.EVERY_COMMAND, LONG_INTERVAL);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(1, writeCount.get());
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(2, writeCount.get());
+        assertEquals(new AddressBook(), readBack(storage));
+    }
+
+    @Test
+    public void saveAddressBook_groupCommit_coalescesBurstIntoOneWrite() throws Exception {
+        WriteBehindStorage storage = createStorage(SaveDurability.GROUP_COMMIT, LONG_INTERVAL);
+        AddressBook addressBook = getTypicalAddressBook();
+        for (int i = 0; i < 5; i++) {
+            storage.saveAddressBook(addressBook);
+        }
+        assertEquals(0, writeCount.get());
+
+        storage.flush();
+        assertEquals(1, writeCount.get());
+        assertEquals(addressBook, readBack(storage));
+        assertEquals(1, writeCount.get());
+    }
+
+    @Test
+    public void saveAddressBook_groupCommit_writesAfterInterval() throws Exception {
+        WriteBehindStorage storage = createStorage(SaveDurability.GROUP_COMMIT, 10);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (writeCount.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, writeCount.get());
+    }
+
+    @Test
+    public void saveAddressBook_onExit_onlyWritesOnFlush() throws Exception {
+        WriteBehindStorage storage = createStorage(SaveDurability.ON_EXIT, LONG_INTERVAL);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(testFolder.resolve("ab.json")));
+
+        storage.flush();
+        assertTrue(Files.exists(testFolder.resolve("ab.json")));
+        assertEquals(getTypicalAddressBook(), readBack(storage));
+    }
+
+    @Test
+    public void saveAddressBook_laterChanges_notWritten() throws Exception {
+        WriteBehindStorage storage = createStorage(SaveDurability.ON_EXIT, LONG_INTERVAL);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+
+        storage.flush();
+        assertEquals(getTypicalAddressBook(), readBack(storage));
+    }
+
+    @Test
+    public void saveAddressBook_laterLabMaxScoreChange_notWritten() throws Exception {
+        WriteBehindStorage storage = createStorage(SaveDurability.ON_EXIT, LONG_INTERVAL);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.setLabMaxScore(1, 40);
+
+        storage.flush();
+        assertEquals(getTypicalAddressBook(), readBack(storage));
+    }
+
+    @Test
+    public void flush_scheduledWriteThrowsRuntimeException_keptForNextFlush() throws Exception {
+        AtomicInteger failureCount = new AtomicInteger(1);
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (failureCount.getAndDecrement() > 0) {
+                    throw new IllegalStateException("dummy runtime exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs.json"));
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage),
+                SaveDurability.GROUP_COMMIT, LONG_INTERVAL);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(IOException.class, storage::flush);
+        storage.flush();
+        assertEquals(getTypicalAddressBook(), readBack(storage));
+    }
+
+    @Test
+    public void saveAddressBook_earlierScheduledWriteFailed_doesNotThrow() throws Exception {
+        CountDownLatch failedWrite = new CountDownLatch(1);
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (failedWrite.getCount() > 0) {
+                    failedWrite.countDown();
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs.json"));
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage),
+                SaveDurability.GROUP_COMMIT, 1);
+        storage.saveAddressBook(new AddressBook());
+        failedWrite.await();
+
+        // The failure is not reported to the next save, and the next write makes it good.
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flush();
+        assertEquals(getTypicalAddressBook(), readBack(storage));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writesThrough() throws Exception {
+        WriteBehindStorage storage = createStorage(SaveDurability.ON_EXIT, LONG_INTERVAL);
+        Path exportPath = testFolder.resolve("export.json");
+        storage.saveAddressBook(getTypicalAddressBook(), exportPath);
+        assertTrue(Files.exists(exportPath));
+    }
+
+    @Test
+    public void flush_writeFails_throwsIoException() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("dummy IO exception");
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs.json"));
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage),
+                SaveDurability.EVERY_COMMAND, LONG_INTERVAL);
+
+        assertThrows(IOException.class, "dummy IO exception", () -> storage.saveAddressBook(new AddressBook()));
+    }
+}